@@ -0,0 +1,143 @@
+package com.evgeniyfedorchenko.simplearraylist.benchmarks;
+
+import com.evgeniyfedorchenko.simplearraylist.implementations.ConcurrentSimpleArrayList;
+import com.evgeniyfedorchenko.simplearraylist.implementations.CopyOnWriteSimpleArrayList;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Общий список под нагрузкой из нескольких потоков.
+ * На readsPerWrite чтений приходится одна запись set(int, E), то есть 100:1, 10:1 и 1:1.
+ * Чтение задается readOperation: get(int), indexOf(E) случайного элемента или полный обход итератором -
+ * на длинных сканах повтор оптимистичного чтения после конкурентной записи обходится дороже всего.
+ * Число потоков по умолчанию 4, меняется ключом -t.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ConcurrentListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"100", "10", "1"})
+    private int readsPerWrite;
+
+    @Param({"get", "indexOf", "iterate"})
+    private String readOperation;
+
+    private SimpleList<Integer> concurrentSimpleArrayList;
+    private SimpleList<Integer> copyOnWriteSimpleArrayList;
+    private List<Integer> synchronizedList;
+    private List<Integer> copyOnWriteArrayList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        concurrentSimpleArrayList = new ConcurrentSimpleArrayList<>(size);
+        List<Integer> source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            concurrentSimpleArrayList.add(i);
+            source.add(i);
+        }
+        copyOnWriteSimpleArrayList = new CopyOnWriteSimpleArrayList<>(source);
+        synchronizedList = Collections.synchronizedList(new ArrayList<>(source));
+        copyOnWriteArrayList = new CopyOnWriteArrayList<>(source);
+    }
+
+    @State(Scope.Thread)
+    public static class OperationCounter {
+
+        private int operation;
+
+        boolean nextIsWrite(int readsPerWrite) {
+            return operation++ % (readsPerWrite + 1) == 0;
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentSimpleArrayList(OperationCounter counter) {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        return counter.nextIsWrite(readsPerWrite)
+                ? concurrentSimpleArrayList.set(index, index)
+                : read(concurrentSimpleArrayList, index);
+    }
+
+    @Benchmark
+    public Integer copyOnWriteSimpleArrayList(OperationCounter counter) {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        return counter.nextIsWrite(readsPerWrite)
+                ? copyOnWriteSimpleArrayList.set(index, index)
+                : read(copyOnWriteSimpleArrayList, index);
+    }
+
+    @Benchmark
+    public Integer synchronizedList(OperationCounter counter) {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        return counter.nextIsWrite(readsPerWrite)
+                ? synchronizedList.set(index, index)
+                : read(synchronizedList, index);
+    }
+
+    @Benchmark
+    public Integer copyOnWriteArrayList(OperationCounter counter) {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        return counter.nextIsWrite(readsPerWrite)
+                ? copyOnWriteArrayList.set(index, index)
+                : read(copyOnWriteArrayList, index);
+    }
+
+    private Integer read(SimpleList<Integer> list, int index) {
+        return switch (readOperation) {
+            case "get" -> list.get(index);
+            case "indexOf" -> list.indexOf(index);
+            default -> sum(list);
+        };
+    }
+
+    private Integer read(List<Integer> list, int index) {
+        return switch (readOperation) {
+            case "get" -> list.get(index);
+            case "indexOf" -> list.indexOf(index);
+            default -> {
+                if (list != synchronizedList) {
+                    yield sum(list);
+                }
+                // обход synchronizedList требует внешней блокировки на самом списке
+                synchronized (list) {
+                    yield sum(list);
+                }
+            }
+        };
+    }
+
+    private static int sum(Iterable<Integer> items) {
+        int sum = 0;
+        for (Integer item : items) {
+            sum += item;
+        }
+        return sum;
+    }
+}
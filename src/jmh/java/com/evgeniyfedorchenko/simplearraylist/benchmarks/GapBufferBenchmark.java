@@ -0,0 +1,94 @@
+package com.evgeniyfedorchenko.simplearraylist.benchmarks;
+
+import com.evgeniyfedorchenko.simplearraylist.implementations.GapBufferSimpleArrayList;
+import com.evgeniyfedorchenko.simplearraylist.implementations.SimpleArrayList;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Правки рядом с движущимся курсором, как в редакторе: курсор смещается на случайный шаг
+ * не больше maxStep, затем в позицию курсора вставляется элемент и удаляется соседний.
+ * Размер списка при этом не меняется.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GapBufferBenchmark {
+
+    private static final int STEPS = 1 << 12;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"16", "1024"})
+    private int maxStep;
+
+    private SimpleList<Integer> gapBufferSimpleArrayList;
+    private SimpleList<Integer> simpleArrayList;
+    private List<Integer> arrayList;
+    private int[] cursors;
+    private int step;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gapBufferSimpleArrayList = new GapBufferSimpleArrayList<>(size + 1);
+        simpleArrayList = new SimpleArrayList<>(size + 1);
+        arrayList = new ArrayList<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            gapBufferSimpleArrayList.add(i);
+            simpleArrayList.add(i);
+            arrayList.add(i);
+        }
+        Random random = new Random(42);
+        cursors = new int[STEPS];
+        int cursor = size / 2;
+        for (int i = 0; i < STEPS; i++) {
+            cursor = Math.floorMod(cursor + random.nextInt(2 * maxStep + 1) - maxStep, size - 1);
+            cursors[i] = cursor;
+        }
+    }
+
+    private int nextCursor() {
+        return cursors[step++ & (STEPS - 1)];
+    }
+
+    @Benchmark
+    public Integer gapBufferSimpleArrayList() {
+        int cursor = nextCursor();
+        gapBufferSimpleArrayList.add(cursor, cursor);
+        return gapBufferSimpleArrayList.remove(cursor + 1);
+    }
+
+    @Benchmark
+    public Integer simpleArrayList() {
+        int cursor = nextCursor();
+        simpleArrayList.add(cursor, cursor);
+        return simpleArrayList.remove(cursor + 1);
+    }
+
+    @Benchmark
+    public Integer arrayList() {
+        int cursor = nextCursor();
+        arrayList.add(cursor, cursor);
+        return arrayList.remove(cursor + 1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.evgeniyfedorchenko.simplearraylist.benchmarks;
+
+import com.evgeniyfedorchenko.simplearraylist.implementations.IntSimpleArrayList;
+import com.evgeniyfedorchenko.simplearraylist.implementations.SimpleArrayList;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Масштабирование parallelSort по числу ядер (parallelism пула) в сравнении с последовательной сортировкой.
+ * quickSort от parallelism не зависит и служит базовой линией.
+ * Обе сортировки идут с явным компаратором: с естественным порядком sort на списке Integer
+ * от RadixSort.THRESHOLD элементов уходит в поразрядную сортировку, и базовая линия перестала бы быть сравнением.
+ * intParallelSort - то же деление на задачи для IntSimpleArrayList без упаковки, в пуле с заданным parallelism.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParallelSortBenchmark {
+
+    private static final Comparator<Integer> ORDER = Integer::compare;
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private Integer[] source;
+    private SimpleList<Integer> list;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        source = new Integer[size];
+        list = new SimpleArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+            list.add(source[i]);
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, source[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public SimpleList<Integer> quickSort() {
+        list.sort(ORDER);
+        return list;
+    }
+
+    @Benchmark
+    public SimpleList<Integer> parallelSort() {
+        list.parallelSort(ORDER, pool);
+        return list;
+    }
+
+    /* Примитивный список восстанавливается только для своего бенчмарка */
+    @State(Scope.Thread)
+    public static class IntState {
+
+        private int[] source;
+        private IntSimpleArrayList list;
+
+        @Setup(Level.Trial)
+        public void setUp(ParallelSortBenchmark benchmark) {
+            source = new int[benchmark.size];
+            list = new IntSimpleArrayList(benchmark.size);
+            for (int i = 0; i < source.length; i++) {
+                source[i] = benchmark.source[i];
+                list.addInt(source[i]);
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            for (int i = 0; i < source.length; i++) {
+                list.setInt(i, source[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public IntSimpleArrayList intParallelSort(IntState state) {
+        state.list.parallelSort(null, pool);
+        return state.list;
+    }
+}
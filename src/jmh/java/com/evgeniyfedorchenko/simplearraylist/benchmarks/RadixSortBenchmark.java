@@ -0,0 +1,99 @@
+package com.evgeniyfedorchenko.simplearraylist.benchmarks;
+
+import com.evgeniyfedorchenko.simplearraylist.sorting.IntroSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.RadixSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Поразрядная сортировка против сортировок сравнениями: Arrays.sort для int[], IntroSort (то, чем сортирует quickSort)
+ * для Integer и String. Время включает копирование исходных данных, одинаковое для обеих сторон.
+ * По этим замерам выбран RadixSort.THRESHOLD.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class RadixSortBenchmark {
+
+    @Param({"256", "1024", "65536", "1000000"})
+    private int size;
+
+    private final RadixSort.Buffers buffers = new RadixSort.Buffers();
+    private int[] intSource;
+    private int[] ints;
+    private Object[] integerSource;
+    private Object[] stringSource;
+    private Object[] objects;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        intSource = random.ints(size).toArray();
+        ints = new int[size];
+        integerSource = Arrays.stream(intSource).boxed().toArray();
+        // ключи длиной до 12 символов, как у артикулов и коротких идентификаторов
+        stringSource = random.longs(size, 0, Long.MAX_VALUE).mapToObj(value -> Long.toString(value, 36).substring(1))
+                .toArray();
+        objects = new Object[size];
+    }
+
+    @Benchmark
+    public int[] intArraysSort() {
+        System.arraycopy(intSource, 0, ints, 0, size);
+        Arrays.sort(ints);
+        return ints;
+    }
+
+    @Benchmark
+    public int[] intRadixSort() {
+        System.arraycopy(intSource, 0, ints, 0, size);
+        RadixSort.sort(ints, 0, size, buffers);
+        return ints;
+    }
+
+    @Benchmark
+    public Object[] integerIntroSort() {
+        System.arraycopy(integerSource, 0, objects, 0, size);
+        IntroSort.sort(objects, 0, size, null);
+        return objects;
+    }
+
+    @Benchmark
+    public Object[] integerRadixSort() {
+        System.arraycopy(integerSource, 0, objects, 0, size);
+        RadixSort.<Integer>sortByInt(objects, 0, size, Integer::intValue, buffers);
+        return objects;
+    }
+
+    @Benchmark
+    public Object[] stringIntroSort() {
+        System.arraycopy(stringSource, 0, objects, 0, size);
+        IntroSort.sort(objects, 0, size, null);
+        return objects;
+    }
+
+    @Benchmark
+    public Object[] stringRadixSort() {
+        System.arraycopy(stringSource, 0, objects, 0, size);
+        RadixSort.<String>sortByString(objects, 0, size, Function.identity(), buffers);
+        return objects;
+    }
+}
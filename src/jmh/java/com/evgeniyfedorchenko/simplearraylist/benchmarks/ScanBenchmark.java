@@ -0,0 +1,111 @@
+package com.evgeniyfedorchenko.simplearraylist.benchmarks;
+
+import com.evgeniyfedorchenko.simplearraylist.scan.PrimitiveScans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Векторные проходы jdk.incubator.vector против скалярного цикла на int[] и long[].
+ * indexOf ищет отсутствующее значение, то есть просматривает весь массив.
+ * VectorScans попадает в benchmarks.jar только при сборке с -Pjmh,vector.
+ * Пары для суммы int нет: VectorScans считает ее скалярно, векторное расширение до long проигрывало.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ScanBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    private int size;
+
+    private int[] ints;
+    private long[] longs;
+    private PrimitiveScans scalar;
+    private PrimitiveScans vectorized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        ints = random.ints(size, 0, 1_000_000).toArray();
+        longs = random.longs(size, 0, 1_000_000).toArray();
+        scalar = PrimitiveScans.scalar();
+        vectorized = PrimitiveScans.vectorized()
+                .orElseThrow(() -> new IllegalStateException("VectorScans is not built, package with -Pjmh,vector"));
+    }
+
+    @Benchmark
+    public int scalarIntIndexOf() {
+        return scalar.indexOf(ints, 0, size, -1);
+    }
+
+    @Benchmark
+    public int vectorIntIndexOf() {
+        return vectorized.indexOf(ints, 0, size, -1);
+    }
+
+    @Benchmark
+    public int scalarIntCount() {
+        return scalar.count(ints, size, 7);
+    }
+
+    @Benchmark
+    public int vectorIntCount() {
+        return vectorized.count(ints, size, 7);
+    }
+
+    @Benchmark
+    public int scalarIntMin() {
+        return scalar.min(ints, size);
+    }
+
+    @Benchmark
+    public int vectorIntMin() {
+        return vectorized.min(ints, size);
+    }
+
+    @Benchmark
+    public int scalarLongIndexOf() {
+        return scalar.indexOf(longs, 0, size, -1L);
+    }
+
+    @Benchmark
+    public int vectorLongIndexOf() {
+        return vectorized.indexOf(longs, 0, size, -1L);
+    }
+
+    @Benchmark
+    public long scalarLongMax() {
+        return scalar.max(longs, size);
+    }
+
+    @Benchmark
+    public long vectorLongMax() {
+        return vectorized.max(longs, size);
+    }
+
+    @Benchmark
+    public long scalarLongSum() {
+        return scalar.sum(longs, size);
+    }
+
+    @Benchmark
+    public long vectorLongSum() {
+        return vectorized.sum(longs, size);
+    }
+}
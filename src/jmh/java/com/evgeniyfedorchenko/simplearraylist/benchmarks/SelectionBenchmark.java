@@ -0,0 +1,82 @@
+package com.evgeniyfedorchenko.simplearraylist.benchmarks;
+
+import com.evgeniyfedorchenko.simplearraylist.implementations.SimpleArrayList;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Медиана и 100 наибольших элементов через select, topK и partialSort в сравнении с полной сортировкой.
+ * Компаратор явный, чтобы сортировка не переключалась на поразрядную.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SelectionBenchmark {
+
+    private static final Comparator<Integer> DESCENDING = Comparator.reverseOrder();
+    private static final int K = 100;
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private Integer[] source;
+    private SimpleList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        source = new Integer[size];
+        list = new SimpleArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+            list.add(source[i]);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, source[i]);
+        }
+    }
+
+    @Benchmark
+    public Integer fullSortMedian() {
+        list.sort(DESCENDING);
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer selectMedian() {
+        return list.select(size / 2, DESCENDING);
+    }
+
+    @Benchmark
+    public SimpleList<Integer> topK() {
+        return list.topK(K, DESCENDING);
+    }
+
+    @Benchmark
+    public SimpleList<Integer> partialSort() {
+        list.partialSort(K, DESCENDING);
+        return list;
+    }
+}
@@ -0,0 +1,249 @@
+package com.evgeniyfedorchenko.simplearraylist.benchmarks;
+
+import com.evgeniyfedorchenko.simplearraylist.implementations.SimpleArrayList;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Операции {@link SimpleList} на {@link SimpleArrayList} в сравнении с {@link ArrayList}.
+ * Каждая операция представлена парой методов simpleArrayList* / arrayList*,
+ * чтобы в отчете JMH они шли рядом.
+ * Мутирующие операции выполняются "туда и обратно", чтобы размер списка между вызовами не менялся.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SimpleListBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] source;
+    private int[] randomIndexes;
+    private int indexCursor;
+    private Integer probe;
+    private Integer extra;
+
+    private SimpleList<Integer> simpleArrayList;
+    private List<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        source = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+        }
+        randomIndexes = new int[1024];
+        for (int i = 0; i < randomIndexes.length; i++) {
+            randomIndexes[i] = random.nextInt(size);
+        }
+        probe = source[size * 3 / 4];
+        extra = random.nextInt();
+
+        simpleArrayList = new SimpleArrayList<>();
+        arrayList = new ArrayList<>();
+        for (Integer item : source) {
+            simpleArrayList.add(item);
+            arrayList.add(item);
+        }
+    }
+
+    private int nextIndex() {
+        return randomIndexes[indexCursor++ & (randomIndexes.length - 1)];
+    }
+
+    /* --- add(E): заполнение пустого списка до size элементов --- */
+
+    @Benchmark
+    public SimpleList<Integer> simpleArrayListAdd() {
+        SimpleList<Integer> list = new SimpleArrayList<>();
+        for (Integer item : source) {
+            list.add(item);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayListAdd() {
+        List<Integer> list = new ArrayList<>();
+        for (Integer item : source) {
+            list.add(item);
+        }
+        return list;
+    }
+
+    /* --- add(int, E): вставка в середину и удаление последнего элемента --- */
+
+    @Benchmark
+    public Integer simpleArrayListAddAtIndex() {
+        simpleArrayList.add(size / 2, extra);
+        return simpleArrayList.remove(simpleArrayList.size() - 1);
+    }
+
+    @Benchmark
+    public Integer arrayListAddAtIndex() {
+        arrayList.add(size / 2, extra);
+        return arrayList.remove(arrayList.size() - 1);
+    }
+
+    /* --- get(int) --- */
+
+    @Benchmark
+    public Integer simpleArrayListGet() {
+        return simpleArrayList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer arrayListGet() {
+        return arrayList.get(nextIndex());
+    }
+
+    /* --- set(int, E) --- */
+
+    @Benchmark
+    public Integer simpleArrayListSet() {
+        int index = nextIndex();
+        return simpleArrayList.set(index, source[index]);
+    }
+
+    @Benchmark
+    public Integer arrayListSet() {
+        int index = nextIndex();
+        return arrayList.set(index, source[index]);
+    }
+
+    /* --- remove(E): удаление по значению и возврат элемента в хвост --- */
+
+    @Benchmark
+    public Integer simpleArrayListRemoveItem() {
+        Integer item = simpleArrayList.get(size / 2);
+        simpleArrayList.remove(item);
+        return simpleArrayList.add(item);
+    }
+
+    @Benchmark
+    public boolean arrayListRemoveItem() {
+        Integer item = arrayList.get(size / 2);
+        arrayList.remove(item);
+        return arrayList.add(item);
+    }
+
+    /* --- remove(int): удаление из середины и возврат элемента в хвост --- */
+
+    @Benchmark
+    public Integer simpleArrayListRemoveAtIndex() {
+        return simpleArrayList.add(simpleArrayList.remove(size / 2));
+    }
+
+    @Benchmark
+    public boolean arrayListRemoveAtIndex() {
+        return arrayList.add(arrayList.remove(size / 2));
+    }
+
+    /* --- indexOf(E) --- */
+
+    @Benchmark
+    public int simpleArrayListIndexOf() {
+        return simpleArrayList.indexOf(probe);
+    }
+
+    @Benchmark
+    public int arrayListIndexOf() {
+        return arrayList.indexOf(probe);
+    }
+
+    /* --- contains(E) --- */
+
+    @Benchmark
+    public boolean simpleArrayListContains() {
+        return simpleArrayList.contains(probe);
+    }
+
+    @Benchmark
+    public boolean arrayListContains() {
+        return arrayList.contains(probe);
+    }
+
+    /* --- итерация --- */
+
+    @Benchmark
+    public void simpleArrayListIterate(Blackhole blackhole) {
+        for (Integer item : simpleArrayList) {
+            blackhole.consume(item);
+        }
+    }
+
+    @Benchmark
+    public void arrayListIterate(Blackhole blackhole) {
+        for (Integer item : arrayList) {
+            blackhole.consume(item);
+        }
+    }
+
+    /* --- сортировка: каждый вызов получает заново перемешанные данные.
+       Компаратор явный, чтобы сравнивались сортировки сравнениями: с естественным порядком
+       SimpleArrayList на Integer от RadixSort.THRESHOLD элементов сортирует поразрядно --- */
+
+    private static final Comparator<Integer> ORDER = Integer::compare;
+
+    @State(Scope.Thread)
+    public static class SortState {
+
+        private SimpleList<Integer> simpleArrayList;
+        private List<Integer> arrayList;
+        private Integer[] source;
+
+        @Setup(Level.Trial)
+        public void setUp(SimpleListBenchmark benchmark) {
+            source = benchmark.source;
+            simpleArrayList = new SimpleArrayList<>();
+            arrayList = new ArrayList<>();
+            for (Integer item : source) {
+                simpleArrayList.add(item);
+                arrayList.add(item);
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            for (int i = 0; i < source.length; i++) {
+                simpleArrayList.set(i, source[i]);
+                arrayList.set(i, source[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public SimpleList<Integer> simpleArrayListQuickSort(SortState state) {
+        state.simpleArrayList.sort(ORDER);
+        return state.simpleArrayList;
+    }
+
+    @Benchmark
+    public List<Integer> arrayListSort(SortState state) {
+        state.arrayList.sort(ORDER);
+        return state.arrayList;
+    }
+}
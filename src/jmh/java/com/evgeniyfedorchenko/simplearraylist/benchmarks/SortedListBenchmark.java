@@ -0,0 +1,92 @@
+package com.evgeniyfedorchenko.simplearraylist.benchmarks;
+
+import com.evgeniyfedorchenko.simplearraylist.implementations.SimpleArrayList;
+import com.evgeniyfedorchenko.simplearraylist.implementations.SortedSimpleArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SortedSimpleArrayList: поиск бинарным поиском против линейного поиска в неупорядоченном SimpleArrayList
+ * и добавление пачки слиянием против поэлементных вставок.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedListBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private Integer[] source;
+    private Integer[] batch;
+    private SortedSimpleArrayList<Integer> sortedList;
+    private SimpleArrayList<Integer> unsortedList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        source = random.ints(size).boxed().toArray(Integer[]::new);
+        batch = random.ints(batchSize).boxed().toArray(Integer[]::new);
+        sortedList = new SortedSimpleArrayList<>();
+        sortedList.addAll(source);
+        unsortedList = new SimpleArrayList<>(size);
+        unsortedList.addAll(source);
+    }
+
+    /* Отдельное состояние, чтобы пересборка списка перед каждым вызовом не мешала замерам поиска */
+    @State(Scope.Thread)
+    public static class Target {
+
+        private SortedSimpleArrayList<Integer> list;
+
+        @Setup(Level.Invocation)
+        public void restore(SortedListBenchmark benchmark) {
+            list = new SortedSimpleArrayList<>(benchmark.size + benchmark.batchSize, null);
+            list.addAll(benchmark.source);
+        }
+    }
+
+    @Benchmark
+    public boolean sortedContains() {
+        return sortedList.contains(source[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    public boolean unsortedContains() {
+        return unsortedList.contains(source[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    public SortedSimpleArrayList<Integer> addAllMerge(Target target) {
+        target.list.addAll(batch);
+        return target.list;
+    }
+
+    @Benchmark
+    public SortedSimpleArrayList<Integer> addOneByOne(Target target) {
+        for (Integer item : batch) {
+            target.list.add(item);
+        }
+        return target.list;
+    }
+}
@@ -0,0 +1,80 @@
+package com.evgeniyfedorchenko.simplearraylist.benchmarks;
+
+import com.evgeniyfedorchenko.simplearraylist.implementations.SimpleArrayList;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * stableSort против quickSort на случайных и почти упорядоченных данных
+ * (отсортированный список, в котором изменен 1% элементов).
+ * Компаратор явный, чтобы quickSort не переключался на поразрядную сортировку.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StableSortBenchmark {
+
+    private static final Comparator<Integer> ORDER = Integer::compare;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"random", "nearlySorted"})
+    private String shape;
+
+    private Integer[] source;
+    private SimpleList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        source = new Integer[size];
+        list = new SimpleArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source[i] = shape.equals("random") ? random.nextInt() : i;
+            list.add(source[i]);
+        }
+        if (shape.equals("nearlySorted")) {
+            for (int i = 0; i < size / 100; i++) {
+                source[random.nextInt(size)] = random.nextInt(size);
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, source[i]);
+        }
+    }
+
+    @Benchmark
+    public SimpleList<Integer> quickSort() {
+        list.sort(ORDER);
+        return list;
+    }
+
+    @Benchmark
+    public SimpleList<Integer> stableSort() {
+        list.stableSort(ORDER);
+        return list;
+    }
+}
@@ -2,12 +2,8 @@ package com.evgeniyfedorchenko.simplearraylist;
 
 public class Main {
 
-     /* SORT_TEST:
-        timSort - 45 ms
-        quickSort = 34 ms
-        bubbleSort - 34903 ms
-        sortSelection - 6500 ms
-        sortInsertion - 8000 ms */
+     /* Замеры производительности - в src/jmh (SimpleListBenchmark):
+        mvn -Pjmh package && java -jar target/benchmarks.jar SimpleListBenchmark */
 
     public static void main(String[] args) {
         System.out.println("Hello world!");
@@ -0,0 +1,275 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Потокобезопасный список только для добавления в конец, без блокировок.
+ * Элементы лежат в сегментах, размеры которых - степени двойки: 16, 32, 64 и т.д.
+ * Сегменты создаются по мере надобности, поэтому при росте старые элементы никогда не копируются.
+ * Поток получает слот увеличением счетчика tail через CAS и публикует элемент записью с release-семантикой.
+ * get(int) находит сегмент и смещение за O(1) по номеру старшего бита.
+ * Слот, который уже занят, но еще не записан, get(int) и итератор дожидаются в коротком цикле ожидания.
+ * Удаление, вставка в середину, замена и сортировка не поддерживаются и бросают UnsupportedOperationException.
+ */
+public class AppendOnlySimpleArrayList<E> implements SimpleList<E> {
+
+    private static final int FIRST_SEGMENT_SHIFT = 4;
+    private static final int FIRST_SEGMENT_CAPACITY = 1 << FIRST_SEGMENT_SHIFT;
+    /* Индекс со сдвигом на FIRST_SEGMENT_CAPACITY должен помещаться в int */
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT_CAPACITY + 1;
+    private static final int SEGMENT_COUNT = Integer.SIZE - 1 - FIRST_SEGMENT_SHIFT;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final AtomicReferenceArray<Object[]> segments = new AtomicReferenceArray<>(SEGMENT_COUNT);
+    /* Число выданных слотов */
+    private final AtomicInteger tail = new AtomicInteger();
+
+    private static int segmentIndex(int index) {
+        int position = index + FIRST_SEGMENT_CAPACITY;
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position) - FIRST_SEGMENT_SHIFT;
+    }
+
+    private static int offsetInSegment(int index, int segmentIndex) {
+        return index + FIRST_SEGMENT_CAPACITY - (FIRST_SEGMENT_CAPACITY << segmentIndex);
+    }
+
+    /* Сегмент создает первый дошедший до него поток, остальные берут уже установленный */
+    private Object[] segment(int segmentIndex) {
+        Object[] segment = segments.get(segmentIndex);
+        if (segment == null) {
+            Object[] created = new Object[FIRST_SEGMENT_CAPACITY << segmentIndex];
+            segment = segments.compareAndExchange(segmentIndex, null, created);
+            if (segment == null) {
+                segment = created;
+            }
+        }
+        return segment;
+    }
+
+    private void publish(int index, E item) {
+        int segmentIndex = segmentIndex(index);
+        SLOT.setRelease(segment(segmentIndex), offsetInSegment(index, segmentIndex), item);
+    }
+
+    /* Слот с индексом меньше size() уже занят, но записывающий поток мог еще не опубликовать элемент */
+    @SuppressWarnings("unchecked")
+    private E await(int index) {
+        int segmentIndex = segmentIndex(index);
+        Object[] segment = segment(segmentIndex);
+        int offset = offsetInSegment(index, segmentIndex);
+        Object item;
+        while ((item = SLOT.getAcquire(segment, offset)) == null) {
+            Thread.onSpinWait();
+        }
+        return (E) item;
+    }
+
+    /* CAS, а не getAndAdd: слот сверх MAX_SIZE нельзя выдавать даже временно,
+       иначе читатели будут вечно ждать элемент, который никто не запишет.
+       По той же причине сегменты под слоты создаются до CAS: если выделение памяти упадет,
+       tail еще не сдвинут, а после CAS publish уже ничего не выделяет и не может оставить слот пустым */
+    private int claim(int count) {
+        while (true) {
+            int first = tail.get();
+            if (count > MAX_SIZE - first) {
+                throw new OutOfMemoryError("Required list size too large");
+            }
+            if (count > 0) {
+                for (int i = segmentIndex(first), last = segmentIndex(first + count - 1); i <= last; i++) {
+                    segment(i);
+                }
+            }
+            if (tail.compareAndSet(first, first + count)) {
+                return first;
+            }
+        }
+    }
+
+    private void checkInvalidIndex(int index, int size) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    @Override
+    public E add(E item) {
+        checkNullItem(item);
+        publish(claim(1), item);
+        return item;
+    }
+
+    /* Элементы массива получают соседние слоты, но другие потоки могут увидеть их не одновременно */
+    @Override
+    public boolean addAll(E[] items) {
+        for (E item : items) {
+            checkNullItem(item);
+        }
+        int first = claim(items.length);
+        for (int i = 0; i < items.length; i++) {
+            publish(first + i, items[i]);
+        }
+        return items.length > 0;
+    }
+
+    @Override
+    public E get(int index) {
+        checkInvalidIndex(index, size());
+        return await(index);
+    }
+
+    @Override
+    public int size() {
+        return tail.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(E item) {
+        return indexOf(item) >= 0;
+    }
+
+    @Override
+    public int indexOf(E item) {
+        checkNullItem(item);
+        for (int i = 0, n = size(); i < n; i++) {
+            if (item.equals(await(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(E item) {
+        checkNullItem(item);
+        for (int i = size() - 1; i >= 0; i--) {
+            if (item.equals(await(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        int size = size();
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = await(i);
+        }
+        return array;
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((AppendOnlySimpleArrayList<?>) otherList).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /* Итератор видит элементы, добавленные до его создания, и может увидеть добавленные во время обхода */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public E next() {
+                if (index >= size()) {
+                    throw new NoSuchElementException();
+                }
+                return await(index++);
+            }
+        };
+    }
+
+    @Override
+    public E add(int index, E item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E set(int index, E item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove(E item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void quickSort() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        throw new UnsupportedOperationException();
+    }
+}
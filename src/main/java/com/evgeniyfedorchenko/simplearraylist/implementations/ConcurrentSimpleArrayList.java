@@ -0,0 +1,488 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import com.evgeniyfedorchenko.simplearraylist.sorting.IntroSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.MergeSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.Selection;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Потокобезопасный список на массиве со StampedLock.
+ * get, size, indexOf, lastIndexOf, contains, toArray и итерация сначала читают без блокировки (optimistic read)
+ * и берут блокировку чтения, только если за время чтения произошла запись.
+ * Все изменения, включая рост массива, выполняются под блокировкой записи.
+ * Пользовательский код (Predicate в removeIf, Comparator в сортировках) под блокировкой не выполняется:
+ * он работает над снимком, взятым под блокировкой чтения, а результат публикуется под блокировкой записи,
+ * только если список за это время не менялся, иначе все повторяется на новом снимке.
+ * Поэтому callback может читать и даже менять этот же список, а медленный фильтр не задерживает читателей.
+ * Итератор слабо согласованный: не бросает ConcurrentModificationException
+ * и может увидеть или не увидеть изменения, сделанные во время обхода.
+ */
+public class ConcurrentSimpleArrayList<E> implements SimpleList<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final StampedLock lock = new StampedLock();
+    private final GrowthPolicy growthPolicy;
+    private Object[] innerArray;
+    private int size;
+    /* Число взятий блокировки записи. Меняется и читается только под блокировкой */
+    private int modCount;
+
+    public ConcurrentSimpleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentSimpleArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    public ConcurrentSimpleArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity >= 0 && growthPolicy != null) {
+            this.innerArray = new Object[initialCapacity];
+            this.growthPolicy = growthPolicy;
+        } else {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /* Любая запись считается изменением: снимки, взятые до нее, публиковать нельзя */
+    private long writeLock() {
+        long stamp = lock.writeLock();
+        modCount++;
+        return stamp;
+    }
+
+    /*
+     * Снимок [0, size) копируется под блокировкой чтения, update выполняется без блокировок и возвращает
+     * новое содержимое списка или null, если менять нечего. Новое содержимое публикуется под блокировкой записи,
+     * если после снимка записей не было, иначе update повторяется на свежем снимке.
+     */
+    private boolean updateOutsideLock(UnaryOperator<Object[]> update) {
+        while (true) {
+            Object[] snapshot;
+            int snapshotModCount;
+            long stamp = lock.readLock();
+            try {
+                snapshot = Arrays.copyOf(innerArray, size);
+                snapshotModCount = modCount;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+            Object[] updated = update.apply(snapshot);
+            if (updated == null) {
+                return false;
+            }
+            stamp = lock.writeLock();
+            try {
+                if (modCount == snapshotModCount) {
+                    modCount++;
+                    System.arraycopy(updated, 0, innerArray, 0, updated.length);
+                    Arrays.fill(innerArray, updated.length, size, null);
+                    size = updated.length;
+                    return true;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /* Вызывается только под блокировкой записи */
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > innerArray.length) {
+            innerArray = Arrays.copyOf(innerArray, growthPolicy.newCapacity(innerArray.length, minCapacity));
+        }
+    }
+
+    private static void checkInvalidIndex(int index, int size) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    @Override
+    public E add(E item) {
+        checkNullItem(item);
+        long stamp = writeLock();
+        try {
+            ensureCapacityInternal(size + 1);
+            innerArray[size++] = item;
+            return item;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(E[] items) {
+        for (E item : items) {
+            checkNullItem(item);
+        }
+        long stamp = writeLock();
+        try {
+            ensureCapacityInternal(size + items.length);
+            System.arraycopy(items, 0, innerArray, size, items.length);
+            size += items.length;
+            return items.length > 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E add(int index, E item) {
+        checkNullItem(item);
+        long stamp = writeLock();
+        try {
+            checkInvalidIndex(index, size);
+            ensureCapacityInternal(size + 1);
+            System.arraycopy(innerArray, index, innerArray, index + 1, size - index);
+            innerArray[index] = item;
+            size++;
+            return item;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E set(int index, E item) {
+        checkNullItem(item);
+        long stamp = writeLock();
+        try {
+            checkInvalidIndex(index, size);
+            E oldValue = elementOf(innerArray[index]);
+            innerArray[index] = item;
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E remove(E item) {
+        checkNullItem(item);
+        long stamp = writeLock();
+        try {
+            int index = indexOf(innerArray, 0, size, item);
+            if (index < 0) {
+                throw new NoSuchElementException();
+            }
+            return removeInternal(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        long stamp = writeLock();
+        try {
+            checkInvalidIndex(index, size);
+            return removeInternal(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private E removeInternal(int index) {
+        E item = elementOf(innerArray[index]);
+        System.arraycopy(innerArray, index + 1, innerArray, index, size - index - 1);
+        innerArray[--size] = null;
+        return item;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return updateOutsideLock(elements -> {
+            BitSet survivors = new BitSet(elements.length);
+            for (int i = 0; i < elements.length; i++) {
+                if (!filter.test(elementOf(elements[i]))) {
+                    survivors.set(i);
+                }
+            }
+            if (survivors.cardinality() == elements.length) {
+                return null;
+            }
+            int to = 0;
+            for (int from = survivors.nextSetBit(0); from >= 0; from = survivors.nextSetBit(from + 1)) {
+                elements[to++] = elements[from];
+            }
+            return Arrays.copyOf(elements, to);
+        });
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long stamp = writeLock();
+        try {
+            if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            System.arraycopy(innerArray, toIndex, innerArray, fromIndex, size - toIndex);
+            int newSize = size - (toIndex - fromIndex);
+            Arrays.fill(innerArray, newSize, size, null);
+            size = newSize;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] array = innerArray;
+        int currentSize = size;
+        Object item = index >= 0 && index < currentSize && index < array.length ? array[index] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+                item = index >= 0 && index < currentSize ? innerArray[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        checkInvalidIndex(index, currentSize);
+        return elementOf(item);
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(E item) {
+        return indexOf(item) >= 0;
+    }
+
+    @Override
+    public int indexOf(E item) {
+        checkNullItem(item);
+        long stamp = lock.tryOptimisticRead();
+        Object[] array = innerArray;
+        int index = indexOf(array, 0, Math.min(size, array.length), item);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                index = indexOf(innerArray, 0, size, item);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public int lastIndexOf(E item) {
+        checkNullItem(item);
+        long stamp = lock.tryOptimisticRead();
+        Object[] array = innerArray;
+        int index = lastIndexOf(array, Math.min(size, array.length), item);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                index = lastIndexOf(innerArray, size, item);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return index;
+    }
+
+    /* При оптимистичном чтении массив может меняться прямо во время обхода:
+       вместо элемента может попасться null, поэтому equals вызывается у искомого элемента */
+    private static int indexOf(Object[] array, int from, int to, Object item) {
+        for (int i = from; i < to; i++) {
+            if (item.equals(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(Object[] array, int to, Object item) {
+        for (int i = to - 1; i >= 0; i--) {
+            if (item.equals(array[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((ConcurrentSimpleArrayList<?>) otherList).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public void clear() {
+        long stamp = writeLock();
+        try {
+            Arrays.fill(innerArray, 0, size, null);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.tryOptimisticRead();
+        Object[] array = innerArray;
+        Object[] copy = Arrays.copyOf(array, Math.min(size, array.length));
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                copy = Arrays.copyOf(innerArray, size);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return copy;
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        updateOutsideLock(elements -> {
+            IntroSort.sort(elements, 0, elements.length, comparator);
+            return elements;
+        });
+    }
+
+    @Override
+    public void quickSort() {
+        sort(null);
+    }
+
+    @Override
+    public void stableSort(Comparator<? super E> comparator) {
+        MergeSort.Buffer buffer = new MergeSort.Buffer();
+        updateOutsideLock(elements -> {
+            MergeSort.sort(elements, 0, elements.length, comparator, buffer);
+            return elements;
+        });
+    }
+
+    @Override
+    public void partialSort(int k, Comparator<? super E> comparator) {
+        updateOutsideLock(elements -> {
+            Selection.partialSort(elements, 0, elements.length, k, comparator);
+            return elements;
+        });
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        updateOutsideLock(elements -> {
+            ParallelSort.sort(elements, 0, elements.length, comparator, pool, ParallelSort.DEFAULT_THRESHOLD);
+            return elements;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementOf(Object item) {
+        return (E) item;
+    }
+
+    /* Параллельные потоки работают по согласованному снимку списка */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+            private Object nextItem = advance();
+
+            /* Следующий элемент читается оптимистично, при конфликте с записью - под блокировкой чтения */
+            private Object advance() {
+                long stamp = lock.tryOptimisticRead();
+                Object[] array = innerArray;
+                int currentSize = size;
+                Object item = index < currentSize && index < array.length ? array[index] : null;
+                if (!lock.validate(stamp)) {
+                    stamp = lock.readLock();
+                    try {
+                        item = index < size ? innerArray[index] : null;
+                    } finally {
+                        lock.unlockRead(stamp);
+                    }
+                }
+                index++;
+                return item;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextItem != null;
+            }
+
+            @Override
+            public E next() {
+                if (nextItem == null) {
+                    throw new NoSuchElementException();
+                }
+                Object item = nextItem;
+                nextItem = advance();
+                return elementOf(item);
+            }
+        };
+    }
+}
@@ -0,0 +1,272 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Потокобезопасный список с копированием при записи для данных, которые читают часто, а меняют редко.
+ * Чтение идет без блокировок по неизменяемому снимку, доступному через volatile-ссылку.
+ * Итераторы обходят снимок на момент создания и никогда не бросают ConcurrentModificationException.
+ * Каждая запись копирует массив один раз. Несколько изменений подряд лучше передать в {@link #mutate(Consumer)}:
+ * тогда вся пачка тоже стоит одну копию массива.
+ */
+public class CopyOnWriteSimpleArrayList<E> implements SimpleList<E> {
+
+    /* Запас емкости в копии, чтобы добавления внутри mutate не перевыделяли массив сразу */
+    private static final int BATCH_HEADROOM = 16;
+    private static final Snapshot EMPTY = new Snapshot(new Object[0], 0);
+
+    /* Массив снимка после публикации не меняется. Элементы лежат в elements[0, size) */
+    private record Snapshot(Object[] elements, int size) {
+    }
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot = EMPTY;
+
+    public CopyOnWriteSimpleArrayList() {
+    }
+
+    public CopyOnWriteSimpleArrayList(Collection<? extends E> sourceCollection) {
+        mutate(list -> list.addAll(sourceCollection));
+    }
+
+    /**
+     * Применить пачку изменений атомарно.
+     * Действие получает изменяемую копию списка. Читатели видят либо состояние до пачки, либо после нее целиком.
+     * Копия действительна только внутри действия.
+     */
+    public void mutate(Consumer<SimpleList<E>> mutation) {
+        write(list -> {
+            mutation.accept(list);
+            return null;
+        });
+    }
+
+    private <R> R write(Function<SimpleArrayList<E>, R> mutation) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            Object[] copy = Arrays.copyOf(current.elements(), current.size() + BATCH_HEADROOM);
+            SimpleArrayList<E> working = new SimpleArrayList<>(copy, current.size());
+            R result = mutation.apply(working);
+            int newSize = working.size();
+            snapshot = new Snapshot(working.detachArray(), newSize);
+            return result;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void checkInvalidIndex(int index, int size) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    @Override
+    public E add(E item) {
+        checkNullItem(item);
+        return write(list -> list.add(item));
+    }
+
+    @Override
+    public E add(int index, E item) {
+        checkNullItem(item);
+        return write(list -> list.add(index, item));
+    }
+
+    @Override
+    public boolean addAll(E[] items) {
+        return write(list -> list.addAll(items));
+    }
+
+    @Override
+    public E set(int index, E item) {
+        checkNullItem(item);
+        return write(list -> list.set(index, item));
+    }
+
+    @Override
+    public E remove(E item) {
+        checkNullItem(item);
+        return write(list -> list.remove(item));
+    }
+
+    @Override
+    public E remove(int index) {
+        return write(list -> list.remove(index));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return write(list -> list.removeIf(filter));
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        mutate(list -> list.removeRange(fromIndex, toIndex));
+    }
+
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            snapshot = EMPTY;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        mutate(list -> list.sort(comparator));
+    }
+
+    @Override
+    public void quickSort() {
+        sort(null);
+    }
+
+    @Override
+    public void stableSort(Comparator<? super E> comparator) {
+        mutate(list -> list.stableSort(comparator));
+    }
+
+    @Override
+    public void partialSort(int k, Comparator<? super E> comparator) {
+        mutate(list -> list.partialSort(k, comparator));
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        mutate(list -> list.parallelSort(comparator, pool));
+    }
+
+    @Override
+    public E get(int index) {
+        Snapshot current = snapshot;
+        checkInvalidIndex(index, current.size());
+        return elementOf(current.elements()[index]);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot.size() == 0;
+    }
+
+    @Override
+    public boolean contains(E item) {
+        return indexOf(item) >= 0;
+    }
+
+    @Override
+    public int indexOf(E item) {
+        checkNullItem(item);
+        Snapshot current = snapshot;
+        Object[] elements = current.elements();
+        for (int i = 0, n = current.size(); i < n; i++) {
+            if (item.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(E item) {
+        checkNullItem(item);
+        Snapshot current = snapshot;
+        Object[] elements = current.elements();
+        for (int i = current.size() - 1; i >= 0; i--) {
+            if (item.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        Snapshot other = ((CopyOnWriteSimpleArrayList<?>) otherList).snapshot;
+        return Arrays.equals(current.elements(), 0, current.size(), other.elements(), 0, other.size());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public Object[] toArray() {
+        Snapshot current = snapshot;
+        return Arrays.copyOf(current.elements(), current.size());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementOf(Object item) {
+        return (E) item;
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        Snapshot current = snapshot;
+        return Spliterators.spliterator(current.elements(), 0, current.size(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Snapshot current = snapshot;
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < current.size();
+            }
+
+            @Override
+            public E next() {
+                if (index >= current.size()) {
+                    throw new NoSuchElementException();
+                }
+                return elementOf(current.elements()[index++]);
+            }
+        };
+    }
+}
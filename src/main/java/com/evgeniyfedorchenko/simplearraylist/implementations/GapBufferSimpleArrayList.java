@@ -0,0 +1,304 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import com.evgeniyfedorchenko.simplearraylist.sorting.IntroSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Список на массиве с разрывом (gap buffer) для вставок и удалений рядом с движущимся курсором.
+ * Свободное место хранится не в конце массива, а в разрыве [gapStart, gapEnd) в месте последнего изменения.
+ * Вставка и удаление сначала переносят разрыв к индексу: копируются только элементы между старым
+ * и новым положением разрыва, поэтому серия правок рядом друг с другом стоит O(расстояние), а не O(n).
+ * get(int) и set(int, E) работают за O(1).
+ */
+public class GapBufferSimpleArrayList<E> implements SimpleList<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Object[] buffer;
+    private final GrowthPolicy growthPolicy;
+    private int gapStart;
+    private int gapEnd;
+
+    public GapBufferSimpleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GapBufferSimpleArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    public GapBufferSimpleArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity >= 0 && growthPolicy != null) {
+            this.buffer = new Object[initialCapacity];
+            this.growthPolicy = growthPolicy;
+            this.gapEnd = initialCapacity;
+        } else {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    public GapBufferSimpleArrayList(Collection<? extends E> sourceCollection) {
+        this(sourceCollection.size());
+        for (E item : sourceCollection) {
+            add(item);
+        }
+    }
+
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+    /* Индекс в списке -> индекс в buffer */
+    private int rawIndex(int index) {
+        return index < gapStart ? index : index + gapLength();
+    }
+
+    /* Переносит разрыв так, чтобы он начинался с index. Освободившиеся ячейки обнуляются */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+            Arrays.fill(buffer, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            Arrays.fill(buffer, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /* Разрыв пуст: хвост после разрыва переносится в конец нового массива */
+    private void grow(int minCapacity) {
+        int newCapacity = growthPolicy.newCapacity(buffer.length, minCapacity);
+        Object[] newBuffer = new Object[newCapacity];
+        int tailLength = buffer.length - gapEnd;
+        System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, newBuffer, newCapacity - tailLength, tailLength);
+        buffer = newBuffer;
+        gapEnd = newCapacity - tailLength;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > buffer.length) {
+            grow(minCapacity);
+        }
+    }
+
+    private void checkInvalidIndex(int index) {
+        if (index >= size() || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    private void insert(int index, E item) {
+        moveGap(index);
+        if (gapStart == gapEnd) {
+            grow(buffer.length + 1);
+        }
+        buffer[gapStart++] = item;
+    }
+
+    @Override
+    public E add(E item) {
+        checkNullItem(item);
+        insert(size(), item);
+        return item;
+    }
+
+    @Override
+    public E add(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        insert(index, item);
+        return item;
+    }
+
+    @Override
+    public E set(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        int raw = rawIndex(index);
+        E oldValue = elementOf(buffer[raw]);
+        buffer[raw] = item;
+        return oldValue;
+    }
+
+    @Override
+    public E remove(E item) {
+        int index = indexOf(item);
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return remove(index);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkInvalidIndex(index);
+        moveGap(index);
+        E item = elementOf(buffer[gapEnd]);
+        buffer[gapEnd++] = null;
+        return item;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        moveGap(fromIndex);
+        int count = toIndex - fromIndex;
+        Arrays.fill(buffer, gapEnd, gapEnd + count, null);
+        gapEnd += count;
+    }
+
+    @Override
+    public boolean contains(E item) {
+        return indexOf(item) >= 0;
+    }
+
+    @Override
+    public int indexOf(E item) {
+        checkNullItem(item);
+        for (int i = 0; i < gapStart; i++) {
+            if (item.equals(buffer[i])) {
+                return i;
+            }
+        }
+        for (int i = gapEnd; i < buffer.length; i++) {
+            if (item.equals(buffer[i])) {
+                return i - gapLength();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(E item) {
+        checkNullItem(item);
+        for (int i = buffer.length - 1; i >= gapEnd; i--) {
+            if (item.equals(buffer[i])) {
+                return i - gapLength();
+            }
+        }
+        for (int i = gapStart - 1; i >= 0; i--) {
+            if (item.equals(buffer[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public E get(int index) {
+        checkInvalidIndex(index);
+        return elementOf(buffer[rawIndex(index)]);
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((GapBufferSimpleArrayList<?>) otherList).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public int size() {
+        return buffer.length - gapLength();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(buffer, null);
+        gapStart = 0;
+        gapEnd = buffer.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        System.arraycopy(buffer, 0, array, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, array, gapStart, buffer.length - gapEnd);
+        return array;
+    }
+
+    /* Сортировка идет по непрерывному диапазону, поэтому разрыв сначала уводится в конец */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        moveGap(size());
+        IntroSort.sort(buffer, 0, gapStart, comparator);
+    }
+
+    @Override
+    public void quickSort() {
+        sort(null);
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        moveGap(size());
+        ParallelSort.sort(buffer, 0, gapStart, comparator, pool, ParallelSort.DEFAULT_THRESHOLD);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementOf(Object item) {
+        return (E) item;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public E next() {
+                if (index >= size()) {
+                    throw new NoSuchElementException();
+                }
+                return elementOf(buffer[rawIndex(index++)]);
+            }
+        };
+    }
+}
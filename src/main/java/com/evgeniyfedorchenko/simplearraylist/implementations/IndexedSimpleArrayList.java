@@ -0,0 +1,472 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import com.evgeniyfedorchenko.simplearraylist.sorting.IntroSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.MergeSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.Selection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Список на массиве с хеш-индексом "элемент -> позиции".
+ * Индекс - хеш-таблица с открытой адресацией (линейное пробирование, удаление со сдвигом назад, без "надгробий").
+ * Для каждого различного элемента хранится отсортированный массив его позиций в списке.
+ * indexOf, lastIndexOf, contains и поиск в remove(E) выполняются за O(1) в среднем, get(int) - за O(1).
+ * Добавление в конец обновляет индекс за O(1). Вставка и удаление в середине сдвигают хвост массива:
+ * короткий хвост переносится в индексе поэлементно, длинный - одним проходом по хеш-таблице,
+ * где у каждого ключа смещается суффикс его позиций. Итого O(min(n - index, keys) * (probe + log d) + n).
+ */
+public class IndexedSimpleArrayList<E> implements SimpleList<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MIN_TABLE_CAPACITY = 16;
+
+    private Object[] innerArray;
+    private int size;
+    private int parallelSortThreshold = ParallelSort.DEFAULT_THRESHOLD;
+
+    /* Хеш-таблица: ключ, его хеш, позиции в innerArray по возрастанию и их количество */
+    private Object[] keys;
+    private int[] hashes;
+    private int[][] positions;
+    private int[] counts;
+    private int keyCount;
+
+    public IndexedSimpleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IndexedSimpleArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        innerArray = new Object[initialCapacity];
+        initTable(tableCapacityFor(initialCapacity));
+    }
+
+    public IndexedSimpleArrayList(Collection<? extends E> sourceCollection) {
+        this(sourceCollection.size());
+        for (E item : sourceCollection) {
+            add(item);
+        }
+    }
+
+    private static int tableCapacityFor(int expectedKeys) {
+        int capacity = MIN_TABLE_CAPACITY;
+        while (capacity < expectedKeys * 2 && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void initTable(int capacity) {
+        keys = new Object[capacity];
+        hashes = new int[capacity];
+        positions = new int[capacity][];
+        counts = new int[capacity];
+        keyCount = 0;
+    }
+
+    private static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /* Слот ключа или -(слот для вставки + 1), если ключа нет */
+    private int findSlot(Object key, int hash) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        Object current;
+        while ((current = keys[slot]) != null) {
+            if (hashes[slot] == hash && current.equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -(slot + 1);
+    }
+
+    private int findSlot(Object key) {
+        return findSlot(key, spread(key.hashCode()));
+    }
+
+    private void addPosition(Object key, int position) {
+        int hash = spread(key.hashCode());
+        int slot = findSlot(key, hash);
+        if (slot < 0) {
+            if ((keyCount + 1) * 2 > keys.length) {
+                resizeTable(keys.length * 2);
+                slot = findSlot(key, hash);
+            }
+            slot = -(slot + 1);
+            keys[slot] = key;
+            hashes[slot] = hash;
+            positions[slot] = new int[]{position};
+            counts[slot] = 1;
+            keyCount++;
+            return;
+        }
+        int[] slotPositions = positions[slot];
+        int count = counts[slot];
+        if (count == slotPositions.length) {
+            slotPositions = positions[slot] = Arrays.copyOf(slotPositions, count + (count >> 1) + 1);
+        }
+        // чаще всего позиция добавляется в конец списка и оказывается наибольшей
+        int insertAt = count > 0 && slotPositions[count - 1] < position
+                ? count
+                : -(Arrays.binarySearch(slotPositions, 0, count, position) + 1);
+        System.arraycopy(slotPositions, insertAt, slotPositions, insertAt + 1, count - insertAt);
+        slotPositions[insertAt] = position;
+        counts[slot] = count + 1;
+    }
+
+    private void removePosition(Object key, int position) {
+        int slot = findSlot(key);
+        int[] slotPositions = positions[slot];
+        int count = counts[slot];
+        int at = Arrays.binarySearch(slotPositions, 0, count, position);
+        System.arraycopy(slotPositions, at + 1, slotPositions, at, count - at - 1);
+        if (--counts[slot] == 0) {
+            deleteSlot(slot);
+        }
+    }
+
+    private void movePosition(Object key, int from, int to) {
+        int slot = findSlot(key);
+        int at = Arrays.binarySearch(positions[slot], 0, counts[slot], from);
+        positions[slot][at] = to;
+    }
+
+    /*
+     * Сдвинуть на delta все позиции >= from. Пока хвост короче четверти таблицы, дешевле пройти по нему
+     * и найти каждый элемент в индексе; иначе один проход по слотам: у каждого ключа сдвигается суффикс
+     * отсортированного массива позиций, порядок внутри массива при этом сохраняется.
+     * Для delta = 1 хвост уже сдвинут в innerArray на единицу, для delta = -1 - еще нет
+     */
+    private void shiftPositions(int from, int delta) {
+        int tailLength = size - from;
+        if (tailLength * 4 < keys.length) {
+            if (delta > 0) {
+                // с конца, чтобы позиции одного ключа не совпадали в процессе сдвига
+                for (int i = size - 1; i >= from; i--) {
+                    movePosition(innerArray[i + 1], i, i + 1);
+                }
+            } else {
+                for (int i = from; i < size; i++) {
+                    movePosition(innerArray[i], i, i - 1);
+                }
+            }
+            return;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                int[] slotPositions = positions[slot];
+                int count = counts[slot];
+                if (slotPositions[count - 1] < from) {
+                    continue;
+                }
+                int start = Arrays.binarySearch(slotPositions, 0, count, from);
+                if (start < 0) {
+                    start = -(start + 1);
+                }
+                for (int i = start; i < count; i++) {
+                    slotPositions[i] += delta;
+                }
+            }
+        }
+    }
+
+    /* Удаление со сдвигом назад: элементы той же цепочки пробирования подтягиваются в освободившийся слот */
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int free = slot;
+        int current = slot;
+        while (true) {
+            current = (current + 1) & mask;
+            if (keys[current] == null) {
+                break;
+            }
+            int home = hashes[current] & mask;
+            boolean canMove = free <= current
+                    ? home <= free || home > current
+                    : home <= free && home > current;
+            if (canMove) {
+                keys[free] = keys[current];
+                hashes[free] = hashes[current];
+                positions[free] = positions[current];
+                counts[free] = counts[current];
+                free = current;
+            }
+        }
+        keys[free] = null;
+        positions[free] = null;
+        counts[free] = 0;
+        keyCount--;
+    }
+
+    private void resizeTable(int newCapacity) {
+        Object[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        int[][] oldPositions = positions;
+        int[] oldCounts = counts;
+        int oldKeyCount = keyCount;
+        initTable(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = oldHashes[i] & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                hashes[slot] = oldHashes[i];
+                positions[slot] = oldPositions[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+        keyCount = oldKeyCount;
+    }
+
+    private void rebuildIndex() {
+        initTable(tableCapacityFor(size));
+        for (int i = 0; i < size; i++) {
+            addPosition(innerArray[i], i);
+        }
+    }
+
+    private void checkInvalidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    private void ensureArrayCapacity(int minCapacity) {
+        if (minCapacity > innerArray.length) {
+            innerArray = Arrays.copyOf(innerArray,
+                    GrowthPolicy.DEFAULT.newCapacity(innerArray.length, minCapacity));
+        }
+    }
+
+    @Override
+    public E add(E item) {
+        checkNullItem(item);
+        ensureArrayCapacity(size + 1);
+        innerArray[size] = item;
+        addPosition(item, size);
+        size++;
+        return item;
+    }
+
+    @Override
+    public E add(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        ensureArrayCapacity(size + 1);
+        System.arraycopy(innerArray, index, innerArray, index + 1, size - index);
+        innerArray[index] = item;
+        shiftPositions(index, 1);
+        size++;
+        addPosition(item, index);
+        return item;
+    }
+
+    @Override
+    public E set(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        E oldValue = getItem(index);
+        innerArray[index] = item;
+        if (!oldValue.equals(item)) {
+            removePosition(oldValue, index);
+            addPosition(item, index);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public E remove(E item) {
+        int index = indexOf(item);
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return remove(index);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkInvalidIndex(index);
+        E item = getItem(index);
+        removePosition(item, index);
+        shiftPositions(index + 1, -1);
+        System.arraycopy(innerArray, index + 1, innerArray, index, size - index - 1);
+        innerArray[--size] = null;
+        return item;
+    }
+
+    @Override
+    public boolean contains(E item) {
+        checkNullItem(item);
+        return findSlot(item) >= 0;
+    }
+
+    @Override
+    public int indexOf(E item) {
+        checkNullItem(item);
+        int slot = findSlot(item);
+        return slot >= 0 ? positions[slot][0] : -1;
+    }
+
+    @Override
+    public int lastIndexOf(E item) {
+        checkNullItem(item);
+        int slot = findSlot(item);
+        return slot >= 0 ? positions[slot][counts[slot] - 1] : -1;
+    }
+
+    /**
+     * Количество вхождений элемента за O(1) в среднем.
+     */
+    public int count(E item) {
+        checkNullItem(item);
+        int slot = findSlot(item);
+        return slot >= 0 ? counts[slot] : 0;
+    }
+
+    @Override
+    public E get(int index) {
+        checkInvalidIndex(index);
+        return getItem(index);
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        IndexedSimpleArrayList<?> other = (IndexedSimpleArrayList<?>) otherList;
+        return Arrays.equals(innerArray, 0, size, other.innerArray, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + innerArray[i].hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(innerArray, 0, size, null);
+        size = 0;
+        initTable(MIN_TABLE_CAPACITY);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(innerArray, size);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        IntroSort.sort(innerArray, 0, size, comparator);
+        rebuildIndex();
+    }
+
+    @Override
+    public void quickSort() {
+        sort(null);
+    }
+
+    @Override
+    public void stableSort(Comparator<? super E> comparator) {
+        MergeSort.sort(innerArray, 0, size, comparator, new MergeSort.Buffer());
+        rebuildIndex();
+    }
+
+    @Override
+    public void partialSort(int k, Comparator<? super E> comparator) {
+        Selection.partialSort(innerArray, 0, size, k, comparator);
+        rebuildIndex();
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        ParallelSort.sort(innerArray, 0, size, comparator, pool, parallelSortThreshold);
+        rebuildIndex();
+    }
+
+    /**
+     * Задать размер части списка, которую parallelSort сортирует последовательно, без деления на подзадачи.
+     */
+    public void setParallelSortThreshold(int parallelSortThreshold) {
+        if (parallelSortThreshold < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.parallelSortThreshold = parallelSortThreshold;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private E getItem(int index) {
+        return (E) innerArray[index];
+    }
+
+    /* SIZED | SUBSIZED | ORDERED | NONNULL, trySplit делит оставшийся диапазон innerArray пополам */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(innerArray, 0, size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return getItem(index++);
+            }
+        };
+    }
+}
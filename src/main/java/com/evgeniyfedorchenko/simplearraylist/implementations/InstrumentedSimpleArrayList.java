@@ -0,0 +1,147 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleListMetrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SimpleArrayList, который считает рост массива, скопированные элементы, сравнения и просмотренные при поиске элементы.
+ * Обычный SimpleArrayList платит за метрики только пустыми вызовами, которые JIT убирает,
+ * пока этот класс не используется. Счетчики можно читать через {@link SimpleListMetrics} или JMX.
+ */
+public class InstrumentedSimpleArrayList<E> extends SimpleArrayList<E> implements SimpleListMetrics {
+
+    private static final String DOMAIN = "com.evgeniyfedorchenko.simplearraylist";
+
+    /* LongAdder, потому что parallelSort сравнивает элементы из нескольких потоков */
+    private final LongAdder growCount = new LongAdder();
+    private final LongAdder copiedElements = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder scannedElements = new LongAdder();
+    private volatile int peakCapacity;
+
+    public InstrumentedSimpleArrayList() {
+        super();
+    }
+
+    public InstrumentedSimpleArrayList(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    public InstrumentedSimpleArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        super(initialCapacity, growthPolicy);
+    }
+
+    public InstrumentedSimpleArrayList(Collection<? extends E> sourceCollection) {
+        super(sourceCollection);
+    }
+
+    @Override
+    protected void recordGrow(int oldCapacity, int newCapacity) {
+        growCount.increment();
+        if (newCapacity > peakCapacity) {
+            peakCapacity = newCapacity;
+        }
+    }
+
+    @Override
+    protected void recordCopy(int elements) {
+        copiedElements.add(elements);
+    }
+
+    @Override
+    protected void recordComparisons(int comparisons) {
+        this.comparisons.add(comparisons);
+    }
+
+    @Override
+    protected void recordScan(int elements) {
+        scannedElements.add(elements);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Comparator<? super E> sortComparator(Comparator<? super E> comparator) {
+        Comparator<Object> order = comparator == null
+                ? (Comparator<Object>) (Comparator<?>) Comparator.naturalOrder()
+                : (Comparator<Object>) comparator;
+        return (first, second) -> {
+            comparisons.increment();
+            return order.compare(first, second);
+        };
+    }
+
+    /**
+     * Зарегистрировать метрики в платформенном MBeanServer
+     * под именем com.evgeniyfedorchenko.simplearraylist:type=SimpleList,name=name.
+     */
+    public ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName(DOMAIN + ":type=SimpleList,name=" + ObjectName.quote(name));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.registerMBean(new StandardMBean(this, SimpleListMetrics.class, true), objectName);
+        return objectName;
+    }
+
+    @Override
+    public long getGrowCount() {
+        return growCount.sum();
+    }
+
+    @Override
+    public long getCopiedElements() {
+        return copiedElements.sum();
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getScannedElements() {
+        return scannedElements.sum();
+    }
+
+    @Override
+    public int getSize() {
+        return size();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity();
+    }
+
+    @Override
+    public int getPeakCapacity() {
+        return Math.max(peakCapacity, capacity());
+    }
+
+    @Override
+    public double getWastedCapacityRatio() {
+        int capacity = capacity();
+        return capacity == 0 ? 0 : (double) (capacity - size()) / capacity;
+    }
+
+    @Override
+    public double getCopyAmplification() {
+        return (double) getCopiedElements() / Math.max(1, size());
+    }
+
+    @Override
+    public void reset() {
+        growCount.reset();
+        copiedElements.reset();
+        comparisons.reset();
+        scannedElements.reset();
+        peakCapacity = capacity();
+    }
+}
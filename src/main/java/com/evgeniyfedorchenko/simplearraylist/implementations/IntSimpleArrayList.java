@@ -0,0 +1,376 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import com.evgeniyfedorchenko.simplearraylist.scan.PrimitiveScans;
+import com.evgeniyfedorchenko.simplearraylist.sorting.IntroSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.MergeSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.RadixSort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Список примитивных int на массиве int[].
+ * Методы addInt, getInt, setInt, removeInt, indexOf(int), sort(), sum(), min(), max() не упаковывают значения.
+ * Методы интерфейса SimpleList работают с Integer и упаковывают значения на входе и выходе.
+ */
+public class IntSimpleArrayList implements SimpleList<Integer> {
+
+    private int[] innerArray;
+    private static final int DEFAULT_CAPACITY = 10;
+    private final GrowthPolicy growthPolicy;
+    private int size;
+    /* Векторные проходы, если собраны профилем vector и JVM запущена с --add-modules jdk.incubator.vector, иначе скалярные */
+    private static final PrimitiveScans SCANS = PrimitiveScans.best();
+    /* Вспомогательный массив поразрядной сортировки живет между вызовами, trimToSize его отпускает */
+    private RadixSort.Buffers radixBuffers;
+
+    public IntSimpleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntSimpleArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    public IntSimpleArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity >= 0 && growthPolicy != null) {
+            this.innerArray = new int[initialCapacity];
+            this.growthPolicy = growthPolicy;
+        } else {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private void grow(int minCapacity) {
+        innerArray = Arrays.copyOf(innerArray, growthPolicy.newCapacity(innerArray.length, minCapacity));
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > innerArray.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < innerArray.length) {
+            innerArray = Arrays.copyOf(innerArray, size);
+        }
+        radixBuffers = null;
+    }
+
+    private void checkInvalidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(Integer item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    public void addInt(int value) {
+        if (size == innerArray.length) {
+            grow(size + 1);
+        }
+        innerArray[size++] = value;
+    }
+
+    public void addInt(int index, int value) {
+        checkInvalidIndex(index);
+        if (size == innerArray.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(innerArray, index, innerArray, index + 1, size - index);
+        innerArray[index] = value;
+        size++;
+    }
+
+    public int getInt(int index) {
+        checkInvalidIndex(index);
+        return innerArray[index];
+    }
+
+    public int setInt(int index, int value) {
+        checkInvalidIndex(index);
+        int oldValue = innerArray[index];
+        innerArray[index] = value;
+        return oldValue;
+    }
+
+    public int removeInt(int index) {
+        checkInvalidIndex(index);
+        int value = innerArray[index];
+        System.arraycopy(innerArray, index + 1, innerArray, index, size - index - 1);
+        size--;
+        return value;
+    }
+
+    public int indexOf(int value) {
+        return SCANS.indexOf(innerArray, 0, size, value);
+    }
+
+    public int lastIndexOf(int value) {
+        return SCANS.lastIndexOf(innerArray, size, value);
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Количество вхождений значения.
+     */
+    public int count(int value) {
+        return SCANS.count(innerArray, size, value);
+    }
+
+    /**
+     * Сумма элементов. Вычисляется в long, поэтому не переполняется.
+     */
+    public long sum() {
+        return SCANS.sum(innerArray, size);
+    }
+
+    /**
+     * Минимальный элемент или NoSuchElementException, если список пуст.
+     */
+    public int min() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return SCANS.min(innerArray, size);
+    }
+
+    /**
+     * Максимальный элемент или NoSuchElementException, если список пуст.
+     */
+    public int max() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return SCANS.max(innerArray, size);
+    }
+
+    /**
+     * Отсортировать по возрастанию без упаковки.
+     * Начиная с {@link RadixSort#THRESHOLD} элементов сортирует поразрядно, иначе - Arrays.sort.
+     */
+    public void sort() {
+        if (size >= RadixSort.THRESHOLD) {
+            radixSort();
+        } else {
+            Arrays.sort(innerArray, 0, size);
+        }
+    }
+
+    /**
+     * Отсортировать по возрастанию поразрядной сортировкой LSD за линейное время.
+     */
+    public void radixSort() {
+        if (radixBuffers == null) {
+            radixBuffers = new RadixSort.Buffers();
+        }
+        RadixSort.sort(innerArray, 0, size, radixBuffers);
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(innerArray, size);
+    }
+
+    @Override
+    public Integer add(Integer item) {
+        checkNullItem(item);
+        addInt(item);
+        return item;
+    }
+
+    @Override
+    public Integer add(int index, Integer item) {
+        checkNullItem(item);
+        addInt(index, item);
+        return item;
+    }
+
+    @Override
+    public Integer set(int index, Integer item) {
+        checkNullItem(item);
+        return setInt(index, item);
+    }
+
+    @Override
+    public Integer remove(Integer item) {
+        checkNullItem(item);
+        int index = indexOf(item.intValue());
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeInt(index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeInt(index);
+    }
+
+    @Override
+    public boolean contains(Integer item) {
+        checkNullItem(item);
+        return indexOf(item.intValue()) >= 0;
+    }
+
+    @Override
+    public int indexOf(Integer item) {
+        checkNullItem(item);
+        return indexOf(item.intValue());
+    }
+
+    @Override
+    public int lastIndexOf(Integer item) {
+        checkNullItem(item);
+        return lastIndexOf(item.intValue());
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        IntSimpleArrayList other = (IntSimpleArrayList) otherList;
+        return Arrays.equals(innerArray, 0, size, other.innerArray, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Integer.hashCode(innerArray[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = innerArray[i];
+        }
+        return array;
+    }
+
+    @Override
+    public void sort(Comparator<? super Integer> comparator) {
+        if (comparator == null) {
+            sort();
+            return;
+        }
+        Object[] boxed = toArray();
+        IntroSort.sort(boxed, 0, size, comparator);
+        unbox(boxed);
+    }
+
+    /* Равные примитивы неразличимы, поэтому без компаратора стабильность ничего не добавляет к sort() */
+    @Override
+    public void stableSort(Comparator<? super Integer> comparator) {
+        if (comparator == null) {
+            sort();
+            return;
+        }
+        Object[] boxed = toArray();
+        MergeSort.sort(boxed, 0, size, comparator, new MergeSort.Buffer());
+        unbox(boxed);
+    }
+
+    @Override
+    public void quickSort() {
+        sort();
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super Integer> comparator, ForkJoinPool pool) {
+        if (comparator == null) {
+            ParallelSort.sort(innerArray, 0, size, pool, ParallelSort.DEFAULT_THRESHOLD);
+            return;
+        }
+        Object[] boxed = toArray();
+        ParallelSort.sort(boxed, 0, size, comparator, pool, ParallelSort.DEFAULT_THRESHOLD);
+        unbox(boxed);
+    }
+
+    private void unbox(Object[] boxed) {
+        for (int i = 0; i < boxed.length; i++) {
+            innerArray[i] = (Integer) boxed[i];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toIntArray());
+    }
+
+    /**
+     * Поток примитивных значений без упаковки.
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(innerArray, 0, size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Integer next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return innerArray[index++];
+            }
+        };
+    }
+}
@@ -0,0 +1,376 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import com.evgeniyfedorchenko.simplearraylist.scan.PrimitiveScans;
+import com.evgeniyfedorchenko.simplearraylist.sorting.IntroSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.MergeSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.RadixSort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Список примитивных long на массиве long[].
+ * Методы addLong, getLong, setLong, removeLong, indexOf(long), sort(), sum(), min(), max() не упаковывают значения.
+ * Методы интерфейса SimpleList работают с Long и упаковывают значения на входе и выходе.
+ */
+public class LongSimpleArrayList implements SimpleList<Long> {
+
+    private long[] innerArray;
+    private static final int DEFAULT_CAPACITY = 10;
+    private final GrowthPolicy growthPolicy;
+    private int size;
+    /* Векторные проходы, если собраны профилем vector и JVM запущена с --add-modules jdk.incubator.vector, иначе скалярные */
+    private static final PrimitiveScans SCANS = PrimitiveScans.best();
+    /* Вспомогательный массив поразрядной сортировки живет между вызовами, trimToSize его отпускает */
+    private RadixSort.Buffers radixBuffers;
+
+    public LongSimpleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongSimpleArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    public LongSimpleArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity >= 0 && growthPolicy != null) {
+            this.innerArray = new long[initialCapacity];
+            this.growthPolicy = growthPolicy;
+        } else {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private void grow(int minCapacity) {
+        innerArray = Arrays.copyOf(innerArray, growthPolicy.newCapacity(innerArray.length, minCapacity));
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > innerArray.length) {
+            grow(minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < innerArray.length) {
+            innerArray = Arrays.copyOf(innerArray, size);
+        }
+        radixBuffers = null;
+    }
+
+    private void checkInvalidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(Long item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    public void addLong(long value) {
+        if (size == innerArray.length) {
+            grow(size + 1);
+        }
+        innerArray[size++] = value;
+    }
+
+    public void addLong(int index, long value) {
+        checkInvalidIndex(index);
+        if (size == innerArray.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(innerArray, index, innerArray, index + 1, size - index);
+        innerArray[index] = value;
+        size++;
+    }
+
+    public long getLong(int index) {
+        checkInvalidIndex(index);
+        return innerArray[index];
+    }
+
+    public long setLong(int index, long value) {
+        checkInvalidIndex(index);
+        long oldValue = innerArray[index];
+        innerArray[index] = value;
+        return oldValue;
+    }
+
+    public long removeLong(int index) {
+        checkInvalidIndex(index);
+        long value = innerArray[index];
+        System.arraycopy(innerArray, index + 1, innerArray, index, size - index - 1);
+        size--;
+        return value;
+    }
+
+    public int indexOf(long value) {
+        return SCANS.indexOf(innerArray, 0, size, value);
+    }
+
+    public int lastIndexOf(long value) {
+        return SCANS.lastIndexOf(innerArray, size, value);
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Количество вхождений значения.
+     */
+    public int count(long value) {
+        return SCANS.count(innerArray, size, value);
+    }
+
+    /**
+     * Сумма элементов. При выходе за пределы long переполняется, как обычное сложение.
+     */
+    public long sum() {
+        return SCANS.sum(innerArray, size);
+    }
+
+    /**
+     * Минимальный элемент или NoSuchElementException, если список пуст.
+     */
+    public long min() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return SCANS.min(innerArray, size);
+    }
+
+    /**
+     * Максимальный элемент или NoSuchElementException, если список пуст.
+     */
+    public long max() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return SCANS.max(innerArray, size);
+    }
+
+    /**
+     * Отсортировать по возрастанию без упаковки.
+     * Начиная с {@link RadixSort#THRESHOLD} элементов сортирует поразрядно, иначе - Arrays.sort.
+     */
+    public void sort() {
+        if (size >= RadixSort.THRESHOLD) {
+            radixSort();
+        } else {
+            Arrays.sort(innerArray, 0, size);
+        }
+    }
+
+    /**
+     * Отсортировать по возрастанию поразрядной сортировкой LSD за линейное время.
+     */
+    public void radixSort() {
+        if (radixBuffers == null) {
+            radixBuffers = new RadixSort.Buffers();
+        }
+        RadixSort.sort(innerArray, 0, size, radixBuffers);
+    }
+
+    public long[] toLongArray() {
+        return Arrays.copyOf(innerArray, size);
+    }
+
+    @Override
+    public Long add(Long item) {
+        checkNullItem(item);
+        addLong(item);
+        return item;
+    }
+
+    @Override
+    public Long add(int index, Long item) {
+        checkNullItem(item);
+        addLong(index, item);
+        return item;
+    }
+
+    @Override
+    public Long set(int index, Long item) {
+        checkNullItem(item);
+        return setLong(index, item);
+    }
+
+    @Override
+    public Long remove(Long item) {
+        checkNullItem(item);
+        int index = indexOf(item.longValue());
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return removeLong(index);
+    }
+
+    @Override
+    public Long remove(int index) {
+        return removeLong(index);
+    }
+
+    @Override
+    public boolean contains(Long item) {
+        checkNullItem(item);
+        return indexOf(item.longValue()) >= 0;
+    }
+
+    @Override
+    public int indexOf(Long item) {
+        checkNullItem(item);
+        return indexOf(item.longValue());
+    }
+
+    @Override
+    public int lastIndexOf(Long item) {
+        checkNullItem(item);
+        return lastIndexOf(item.longValue());
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        LongSimpleArrayList other = (LongSimpleArrayList) otherList;
+        return Arrays.equals(innerArray, 0, size, other.innerArray, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Long.hashCode(innerArray[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = innerArray[i];
+        }
+        return array;
+    }
+
+    @Override
+    public void sort(Comparator<? super Long> comparator) {
+        if (comparator == null) {
+            sort();
+            return;
+        }
+        Object[] boxed = toArray();
+        IntroSort.sort(boxed, 0, size, comparator);
+        unbox(boxed);
+    }
+
+    /* Равные примитивы неразличимы, поэтому без компаратора стабильность ничего не добавляет к sort() */
+    @Override
+    public void stableSort(Comparator<? super Long> comparator) {
+        if (comparator == null) {
+            sort();
+            return;
+        }
+        Object[] boxed = toArray();
+        MergeSort.sort(boxed, 0, size, comparator, new MergeSort.Buffer());
+        unbox(boxed);
+    }
+
+    @Override
+    public void quickSort() {
+        sort();
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super Long> comparator, ForkJoinPool pool) {
+        if (comparator == null) {
+            ParallelSort.sort(innerArray, 0, size, pool, ParallelSort.DEFAULT_THRESHOLD);
+            return;
+        }
+        Object[] boxed = toArray();
+        ParallelSort.sort(boxed, 0, size, comparator, pool, ParallelSort.DEFAULT_THRESHOLD);
+        unbox(boxed);
+    }
+
+    private void unbox(Object[] boxed) {
+        for (int i = 0; i < boxed.length; i++) {
+            innerArray[i] = (Long) boxed[i];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toLongArray());
+    }
+
+    /**
+     * Поток примитивных значений без упаковки.
+     */
+    public LongStream longStream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(innerArray, 0, size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Long next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return innerArray[index++];
+            }
+        };
+    }
+}
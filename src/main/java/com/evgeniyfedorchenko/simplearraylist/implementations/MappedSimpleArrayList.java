@@ -0,0 +1,472 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import com.evgeniyfedorchenko.simplearraylist.sorting.IntroSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Список элементов фиксированной ширины в отображенном в память файле.
+ * get и set читают и пишут прямо в отображение, без промежуточного массива.
+ * Файл отображается кусками до 1 ГБ, поэтому может быть больше 2 ГБ.
+ * При росте файл расширяется и последний кусок отображается заново, уже записанные данные не копируются.
+ * Изменения попадают на диск при {@link #force()} или когда их сбросит операционная система.
+ * {@link #open(Path, Codec)} только проверяет заголовок и отображает файл, поэтому работает за O(1) от размера списка.
+ * <p>
+ * Формат файла: заголовок на 32 байта (magic, версия, тип кодека, ширина элемента, количество элементов),
+ * затем элементы подряд в порядке little-endian.
+ */
+public class MappedSimpleArrayList<E> implements SimpleList<E>, Closeable {
+
+    private static final int MAGIC = 0x534C4D46;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int TYPE_OFFSET = 8;
+    private static final int WIDTH_OFFSET = 12;
+    private static final int COUNT_OFFSET = 16;
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 30;
+
+    /**
+     * Преобразование элемента в байты фиксированной ширины и обратно.
+     */
+    public interface Codec<E> {
+
+        /**
+         * Идентификатор типа. Записывается в заголовок и проверяется при открытии файла.
+         */
+        int typeId();
+
+        /**
+         * Ширина элемента в байтах.
+         */
+        int width();
+
+        E read(ByteBuffer buffer, int offset);
+
+        void write(ByteBuffer buffer, int offset, E item);
+
+        Codec<Long> LONG = new Codec<>() {
+            @Override
+            public int typeId() {
+                return 1;
+            }
+
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Long item) {
+                buffer.putLong(offset, item);
+            }
+        };
+
+        Codec<Double> DOUBLE = new Codec<>() {
+            @Override
+            public int typeId() {
+                return 2;
+            }
+
+            @Override
+            public int width() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public Double read(ByteBuffer buffer, int offset) {
+                return buffer.getDouble(offset);
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Double item) {
+                buffer.putDouble(offset, item);
+            }
+        };
+
+        Codec<Integer> INTEGER = new Codec<>() {
+            @Override
+            public int typeId() {
+                return 3;
+            }
+
+            @Override
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer item) {
+                buffer.putInt(offset, item);
+            }
+        };
+    }
+
+    private final FileChannel channel;
+    private final Codec<E> codec;
+    private final int width;
+    private final int elementsPerChunk;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+    private int capacity;
+    private int size;
+
+    private MappedSimpleArrayList(FileChannel channel, Codec<E> codec, int chunkBytes) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.width = codec.width();
+        if (width <= 0 || chunkBytes < width) {
+            throw new IllegalArgumentException();
+        }
+        this.elementsPerChunk = chunkBytes / width;
+        this.header = map(0, HEADER_SIZE);
+    }
+
+    /**
+     * Создать пустой список в файле. Существующий файл перезаписывается.
+     */
+    public static <E> MappedSimpleArrayList<E> create(Path path, Codec<E> codec) throws IOException {
+        return create(path, codec, DEFAULT_CHUNK_BYTES);
+    }
+
+    static <E> MappedSimpleArrayList<E> create(Path path, Codec<E> codec, int chunkBytes) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedSimpleArrayList<E> list = new MappedSimpleArrayList<>(channel, codec, chunkBytes);
+            list.header.putInt(0, MAGIC);
+            list.header.putInt(4, VERSION);
+            list.header.putInt(TYPE_OFFSET, codec.typeId());
+            list.header.putInt(WIDTH_OFFSET, codec.width());
+            list.writeSize();
+            list.mapCapacity(DEFAULT_CAPACITY);
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Открыть список, ранее созданный {@link #create(Path, Codec)} с тем же кодеком.
+     */
+    public static <E> MappedSimpleArrayList<E> open(Path path, Codec<E> codec) throws IOException {
+        return open(path, codec, DEFAULT_CHUNK_BYTES);
+    }
+
+    static <E> MappedSimpleArrayList<E> open(Path path, Codec<E> codec, int chunkBytes) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a mapped list file: " + path);
+            }
+            MappedSimpleArrayList<E> list = new MappedSimpleArrayList<>(channel, codec, chunkBytes);
+            ByteBuffer header = list.header;
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not a mapped list file: " + path);
+            }
+            if (header.getInt(TYPE_OFFSET) != codec.typeId() || header.getInt(WIDTH_OFFSET) != codec.width()) {
+                throw new IOException("File was written with a different codec: " + path);
+            }
+            long count = header.getLong(COUNT_OFFSET);
+            long fileCapacity = (channel.size() - HEADER_SIZE) / list.width;
+            if (count < 0 || count > fileCapacity || fileCapacity > Integer.MAX_VALUE) {
+                throw new IOException("Corrupted mapped list file: " + path);
+            }
+            list.size = (int) count;
+            list.mapCapacity((int) fileCapacity);
+            return list;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private MappedByteBuffer map(long position, long length) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    /* Отображает файл на newCapacity элементов. Полные куски не трогаются, последний отображается заново */
+    private void mapCapacity(int newCapacity) throws IOException {
+        int chunkCount = (int) (((long) newCapacity + elementsPerChunk - 1) / elementsPerChunk);
+        MappedByteBuffer[] newChunks = Arrays.copyOf(chunks, chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            long first = (long) i * elementsPerChunk;
+            long length = Math.min(elementsPerChunk, newCapacity - first) * width;
+            if (newChunks[i] == null || newChunks[i].capacity() != length) {
+                newChunks[i] = map(HEADER_SIZE + first * width, length);
+            }
+        }
+        chunks = newChunks;
+        capacity = newCapacity;
+    }
+
+    private void grow(int minCapacity) {
+        try {
+            mapCapacity(GrowthPolicy.DEFAULT.newCapacity(capacity, minCapacity));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            grow(minCapacity);
+        }
+    }
+
+    private void writeSize() {
+        header.putLong(COUNT_OFFSET, size);
+    }
+
+    private E read(int index) {
+        return codec.read(chunks[index / elementsPerChunk], (index % elementsPerChunk) * width);
+    }
+
+    private void write(int index, E item) {
+        codec.write(chunks[index / elementsPerChunk], (index % elementsPerChunk) * width, item);
+    }
+
+    /**
+     * Сбросить изменения отображения и заголовка на диск.
+     */
+    public void force() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Сбросить изменения на диск и закрыть файл. После закрытия список использовать нельзя.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private void checkInvalidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    @Override
+    public E add(E item) {
+        checkNullItem(item);
+        ensureCapacity(size + 1);
+        write(size++, item);
+        writeSize();
+        return item;
+    }
+
+    @Override
+    public E add(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        ensureCapacity(size + 1);
+        for (int i = size; i > index; i--) {
+            write(i, read(i - 1));
+        }
+        write(index, item);
+        size++;
+        writeSize();
+        return item;
+    }
+
+    @Override
+    public E set(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        E oldValue = read(index);
+        write(index, item);
+        return oldValue;
+    }
+
+    @Override
+    public E remove(E item) {
+        int index = indexOf(item);
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return remove(index);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkInvalidIndex(index);
+        E item = read(index);
+        for (int i = index + 1; i < size; i++) {
+            write(i - 1, read(i));
+        }
+        size--;
+        writeSize();
+        return item;
+    }
+
+    @Override
+    public boolean contains(E item) {
+        return indexOf(item) >= 0;
+    }
+
+    @Override
+    public int indexOf(E item) {
+        checkNullItem(item);
+        for (int i = 0; i < size; i++) {
+            if (item.equals(read(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(E item) {
+        checkNullItem(item);
+        for (int i = size - 1; i >= 0; i--) {
+            if (item.equals(read(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public E get(int index) {
+        checkInvalidIndex(index);
+        return read(index);
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((MappedSimpleArrayList<?>) otherList).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + read(i).hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /* Емкость файла сохраняется, меняется только счетчик в заголовке */
+    @Override
+    public void clear() {
+        size = 0;
+        writeSize();
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = read(i);
+        }
+        return array;
+    }
+
+    /* Сравнение идет по упакованным значениям, поэтому элементы сортируются в памяти и записываются обратно */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        Object[] elements = toArray();
+        IntroSort.sort(elements, 0, size, comparator);
+        writeBack(elements);
+    }
+
+    @Override
+    public void quickSort() {
+        sort(null);
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        Object[] elements = toArray();
+        ParallelSort.sort(elements, 0, size, comparator, pool, ParallelSort.DEFAULT_THRESHOLD);
+        writeBack(elements);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeBack(Object[] elements) {
+        for (int i = 0; i < elements.length; i++) {
+            write(i, (E) elements[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return read(index++);
+            }
+        };
+    }
+}
@@ -0,0 +1,545 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * Неизменяемый список на 32-ичном префиксном дереве (vector trie) с отдельным хвостом.
+ * Листья дерева - массивы по 32 элемента, последние элементы списка (до 32) лежат в хвосте tail.
+ * append, with и slice возвращают новую версию списка, которая разделяет с исходной все узлы,
+ * кроме пути от корня до измененного листа: O(log32 n) новых узлов вместо копии всего массива.
+ * Для быстрого построения большого списка есть изменяемый {@link Builder}: он правит в месте узлы,
+ * созданные им самим, и копирует только узлы, общие с уже выпущенными версиями.
+ * Методы изменения из SimpleList бросают UnsupportedOperationException.
+ * <p>
+ * Полноценное RRB-дерево не реализовано: slice обрезает правый край дерева за O(log n) и смещает начало
+ * без перестройки, поэтому отброшенное начало остается в памяти, пока жива версия. appendAll добавляет
+ * элементы через Builder за O(m), а не сливает деревья за O(log n).
+ */
+public final class PersistentSimpleArrayList<E> implements SimpleList<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentSimpleArrayList<?> EMPTY =
+            new PersistentSimpleArrayList<>(0, 0, BITS, EMPTY_NODE, new Object[0]);
+
+    /* Узел дерева. edit - метка Builder, который создал узел и может менять его на месте, null - ничей */
+    private static final class Node {
+        final Object edit;
+        final Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /* Элементы списка - [offset, count) по абсолютной нумерации дерева */
+    private final int offset;
+    private final int count;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentSimpleArrayList(int offset, int count, int shift, Node root, Object[] tail) {
+        this.offset = offset;
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentSimpleArrayList<E> empty() {
+        return (PersistentSimpleArrayList<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PersistentSimpleArrayList<E> of(E... items) {
+        Builder<E> builder = builder();
+        for (E item : items) {
+            builder.add(item);
+        }
+        return builder.build();
+    }
+
+    public static <E> PersistentSimpleArrayList<E> from(Collection<? extends E> sourceCollection) {
+        Builder<E> builder = builder();
+        for (E item : sourceCollection) {
+            builder.add(item);
+        }
+        return builder.build();
+    }
+
+    public static <E> Builder<E> builder() {
+        return new Builder<>(empty());
+    }
+
+    /**
+     * Изменяемая копия для пакетных изменений. Исходная версия не меняется.
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /* Абсолютный индекс первого элемента хвоста */
+    private static int tailOffset(int count) {
+        return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+    }
+
+    /* Лист или хвост, в котором лежит элемент с абсолютным индексом */
+    private Object[] leafFor(int absoluteIndex) {
+        if (absoluteIndex >= tailOffset(count)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(absoluteIndex >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    private static Node pushTail(int count, int level, Node parent, Node tailNode) {
+        Node copy = new Node(null, parent.array.clone());
+        int child = ((count - 1) >>> level) & MASK;
+        if (level == BITS) {
+            copy.array[child] = tailNode;
+        } else {
+            Node next = (Node) parent.array[child];
+            copy.array[child] = next != null
+                    ? pushTail(count, level - BITS, next, tailNode)
+                    : newPath(null, level - BITS, tailNode);
+        }
+        return copy;
+    }
+
+    private static Node assoc(int level, Node node, int absoluteIndex, Object item) {
+        Node copy = new Node(null, node.array.clone());
+        if (level == 0) {
+            copy.array[absoluteIndex & MASK] = item;
+        } else {
+            int child = (absoluteIndex >>> level) & MASK;
+            copy.array[child] = assoc(level - BITS, (Node) node.array[child], absoluteIndex, item);
+        }
+        return copy;
+    }
+
+    /* Копия правого края дерева, в которой остаются только элементы [0, last] */
+    private static Node trimRight(int level, Node node, int last) {
+        if (level == 0) {
+            return node;
+        }
+        int child = (last >>> level) & MASK;
+        Object[] array = new Object[WIDTH];
+        System.arraycopy(node.array, 0, array, 0, child);
+        array[child] = trimRight(level - BITS, (Node) node.array[child], last);
+        return new Node(null, array);
+    }
+
+    private void checkInvalidIndex(int index) {
+        if (index >= size() || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static void checkNullItem(Object item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    /**
+     * Новая версия с элементом в конце. Исходная версия не меняется.
+     */
+    public PersistentSimpleArrayList<E> append(E item) {
+        checkNullItem(item);
+        if (count - tailOffset(count) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = item;
+            return new PersistentSimpleArrayList<>(offset, count + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((count >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(count, shift, root, tailNode);
+        }
+        return new PersistentSimpleArrayList<>(offset, count + 1, newShift, newRoot, new Object[]{item});
+    }
+
+    /**
+     * Новая версия со всеми элементами другого списка в конце.
+     */
+    public PersistentSimpleArrayList<E> appendAll(SimpleList<? extends E> items) {
+        if (items.isEmpty()) {
+            return this;
+        }
+        Builder<E> builder = toBuilder();
+        for (E item : items) {
+            builder.add(item);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Новая версия с замененным элементом на позиции index.
+     */
+    public PersistentSimpleArrayList<E> with(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        int absoluteIndex = offset + index;
+        if (absoluteIndex >= tailOffset(count)) {
+            Object[] newTail = tail.clone();
+            newTail[absoluteIndex & MASK] = item;
+            return new PersistentSimpleArrayList<>(offset, count, shift, root, newTail);
+        }
+        return new PersistentSimpleArrayList<>(offset, count, shift, assoc(shift, root, absoluteIndex, item), tail);
+    }
+
+    /**
+     * Новая версия из элементов [fromIndex, toIndex).
+     */
+    public PersistentSimpleArrayList<E> slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return empty();
+        }
+        PersistentSimpleArrayList<E> truncated = truncate(offset + toIndex);
+        int newOffset = offset + fromIndex;
+        int tailStart = tailOffset(truncated.count);
+        if (newOffset >= tailStart) {
+            // срез целиком в хвосте - дерево больше не нужно
+            Object[] newTail = Arrays.copyOfRange(truncated.tail, newOffset - tailStart, truncated.tail.length);
+            return new PersistentSimpleArrayList<>(0, newTail.length, BITS, EMPTY_NODE, newTail);
+        }
+        return new PersistentSimpleArrayList<>(newOffset, truncated.count, truncated.shift, truncated.root, truncated.tail);
+    }
+
+    /* Версия из первых newCount элементов по абсолютной нумерации, newCount > 0 */
+    private PersistentSimpleArrayList<E> truncate(int newCount) {
+        if (newCount == count) {
+            return this;
+        }
+        int tailStart = tailOffset(count);
+        if (newCount > tailStart) {
+            return new PersistentSimpleArrayList<>(offset, newCount, shift, root, Arrays.copyOf(tail, newCount - tailStart));
+        }
+        // новый хвост - лист, в котором лежит последний элемент
+        int newTailStart = tailOffset(newCount);
+        Object[] newTail = Arrays.copyOf(leafFor(newCount - 1), newCount - newTailStart);
+        if (newTailStart == 0) {
+            return new PersistentSimpleArrayList<>(offset, newCount, BITS, EMPTY_NODE, newTail);
+        }
+        Node newRoot = trimRight(shift, root, newTailStart - 1);
+        int newShift = shift;
+        while (newShift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentSimpleArrayList<>(offset, newCount, newShift, newRoot, newTail);
+    }
+
+    @Override
+    public E get(int index) {
+        checkInvalidIndex(index);
+        int absoluteIndex = offset + index;
+        return elementOf(leafFor(absoluteIndex)[absoluteIndex & MASK]);
+    }
+
+    @Override
+    public int size() {
+        return count - offset;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == offset;
+    }
+
+    @Override
+    public boolean contains(E item) {
+        return indexOf(item) >= 0;
+    }
+
+    @Override
+    public int indexOf(E item) {
+        checkNullItem(item);
+        int index = 0;
+        for (E element : this) {
+            if (item.equals(element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(E item) {
+        checkNullItem(item);
+        for (int i = size() - 1; i >= 0; i--) {
+            if (item.equals(get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        int index = 0;
+        for (E element : this) {
+            array[index++] = element;
+        }
+        return array;
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((PersistentSimpleArrayList<?>) otherList).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (E element : this) {
+            hashCode = 31 * hashCode + element.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E elementOf(Object item) {
+        return (E) item;
+    }
+
+    /* Лист ищется от корня один раз на 32 элемента */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int absoluteIndex = offset;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return absoluteIndex < count;
+            }
+
+            @Override
+            public E next() {
+                if (absoluteIndex >= count) {
+                    throw new NoSuchElementException();
+                }
+                if (leaf == null || (absoluteIndex & MASK) == 0) {
+                    leaf = leafFor(absoluteIndex);
+                }
+                return elementOf(leaf[absoluteIndex++ & MASK]);
+            }
+        };
+    }
+
+    @Override
+    public E add(E item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E add(int index, E item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(E[] items) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E set(int index, E item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove(E item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void quickSort() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Изменяемый построитель версии. Узлы, помеченные его меткой edit, меняются на месте,
+     * остальные копируются при первом изменении. После build() построитель использовать нельзя.
+     */
+    public static final class Builder<E> {
+
+        private Object edit = new Object();
+        private final int offset;
+        private int count;
+        private int shift;
+        private Node root;
+        /* Хвост всегда на 32 элемента, занята часть [0, count - tailOffset(count)) */
+        private Object[] tail;
+
+        private Builder(PersistentSimpleArrayList<E> source) {
+            this.offset = source.offset;
+            this.count = source.count;
+            this.shift = source.shift;
+            this.root = source.root;
+            this.tail = Arrays.copyOf(source.tail, WIDTH);
+        }
+
+        private void ensureEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("Builder already built");
+            }
+        }
+
+        private Node editable(Node node) {
+            return node.edit == edit ? node : new Node(edit, node.array.clone());
+        }
+
+        public int size() {
+            return count - offset;
+        }
+
+        public Builder<E> add(E item) {
+            ensureEditable();
+            checkNullItem(item);
+            if (count - tailOffset(count) < WIDTH) {
+                tail[count & MASK] = item;
+                count++;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = item;
+            if ((count >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+            count++;
+            return this;
+        }
+
+        public Builder<E> set(int index, E item) {
+            ensureEditable();
+            checkNullItem(item);
+            if (index >= size() || index < 0) {
+                throw new IndexOutOfBoundsException();
+            }
+            int absoluteIndex = offset + index;
+            if (absoluteIndex >= tailOffset(count)) {
+                tail[absoluteIndex & MASK] = item;
+            } else {
+                root = assoc(shift, root, absoluteIndex, item);
+            }
+            return this;
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            Node node = editable(parent);
+            int child = ((count - 1) >>> level) & MASK;
+            if (level == BITS) {
+                node.array[child] = tailNode;
+            } else {
+                Node next = (Node) node.array[child];
+                node.array[child] = next != null
+                        ? pushTail(level - BITS, next, tailNode)
+                        : newPath(edit, level - BITS, tailNode);
+            }
+            return node;
+        }
+
+        private Node assoc(int level, Node parent, int absoluteIndex, Object item) {
+            Node node = editable(parent);
+            if (level == 0) {
+                node.array[absoluteIndex & MASK] = item;
+            } else {
+                int child = (absoluteIndex >>> level) & MASK;
+                node.array[child] = assoc(level - BITS, (Node) node.array[child], absoluteIndex, item);
+            }
+            return node;
+        }
+
+        public PersistentSimpleArrayList<E> build() {
+            ensureEditable();
+            edit = null;
+            Object[] trimmedTail = Arrays.copyOf(tail, count - tailOffset(count));
+            return new PersistentSimpleArrayList<>(offset, count, shift, root, trimmedTail);
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleDeque;
+import com.evgeniyfedorchenko.simplearraylist.sorting.IntroSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Список на кольцевом буфере. Элементы лежат в innerArray начиная с head и переходят через конец массива в начало.
+ * addFirst, addLast, removeFirst, removeLast и peek* работают за O(1), get(int) и set(int, E) - за O(1)
+ * по логическому индексу. Вставка и удаление в середине сдвигают меньшую из двух частей списка.
+ * Емкость всегда степень двойки, чтобы переход через конец массива считался маской, а не делением,
+ * поэтому массив растет удвоением.
+ */
+public class RingBufferSimpleArrayList<E> implements SimpleDeque<E> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] innerArray;
+    private int head;
+    private int size;
+
+    public RingBufferSimpleArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RingBufferSimpleArrayList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        innerArray = new Object[capacityFor(initialCapacity)];
+    }
+
+    public RingBufferSimpleArrayList(Collection<? extends E> sourceCollection) {
+        this(sourceCollection.size());
+        for (E item : sourceCollection) {
+            addLast(item);
+        }
+    }
+
+    private static int capacityFor(int minCapacity) {
+        return Math.max(1, Integer.highestOneBit(Math.max(minCapacity, 1) - 1) << 1);
+    }
+
+    /* Логический индекс -> индекс в innerArray */
+    private int physical(int index) {
+        return (head + index) & (innerArray.length - 1);
+    }
+
+    /* Новый массив начинается с первого элемента, head обнуляется */
+    private void resize(int newCapacity) {
+        Object[] newArray = new Object[newCapacity];
+        int firstPart = Math.min(size, innerArray.length - head);
+        System.arraycopy(innerArray, head, newArray, 0, firstPart);
+        System.arraycopy(innerArray, 0, newArray, firstPart, size - firstPart);
+        innerArray = newArray;
+        head = 0;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > innerArray.length) {
+            if (minCapacity > MAX_CAPACITY) {
+                throw new OutOfMemoryError("Required array length too large");
+            }
+            resize(capacityFor(minCapacity));
+        }
+    }
+
+    private void checkInvalidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    @Override
+    public E addFirst(E item) {
+        checkNullItem(item);
+        ensureCapacity(size + 1);
+        head = (head - 1) & (innerArray.length - 1);
+        innerArray[head] = item;
+        size++;
+        return item;
+    }
+
+    @Override
+    public E addLast(E item) {
+        checkNullItem(item);
+        ensureCapacity(size + 1);
+        innerArray[physical(size)] = item;
+        size++;
+        return item;
+    }
+
+    @Override
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        E item = elementOf(head);
+        innerArray[head] = null;
+        head = (head + 1) & (innerArray.length - 1);
+        size--;
+        return item;
+    }
+
+    @Override
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int last = physical(size - 1);
+        E item = elementOf(last);
+        innerArray[last] = null;
+        size--;
+        return item;
+    }
+
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : elementOf(head);
+    }
+
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : elementOf(physical(size - 1));
+    }
+
+    @Override
+    public E add(E item) {
+        return addLast(item);
+    }
+
+    @Override
+    public E add(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        ensureCapacity(size + 1);
+        int mask = innerArray.length - 1;
+        if (index < size - index) {
+            // элементы перед index сдвигаются на одну позицию к началу
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                innerArray[physical(i)] = innerArray[physical(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                innerArray[physical(i)] = innerArray[physical(i - 1)];
+            }
+        }
+        innerArray[physical(index)] = item;
+        size++;
+        return item;
+    }
+
+    @Override
+    public E set(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        int raw = physical(index);
+        E oldValue = elementOf(raw);
+        innerArray[raw] = item;
+        return oldValue;
+    }
+
+    @Override
+    public E remove(E item) {
+        int index = indexOf(item);
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return remove(index);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkInvalidIndex(index);
+        E item = elementOf(physical(index));
+        if (index < size - index - 1) {
+            // элементы перед index сдвигаются на одну позицию к концу
+            for (int i = index; i > 0; i--) {
+                innerArray[physical(i)] = innerArray[physical(i - 1)];
+            }
+            innerArray[head] = null;
+            head = (head + 1) & (innerArray.length - 1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                innerArray[physical(i)] = innerArray[physical(i + 1)];
+            }
+            innerArray[physical(size - 1)] = null;
+        }
+        size--;
+        return item;
+    }
+
+    @Override
+    public boolean contains(E item) {
+        return indexOf(item) >= 0;
+    }
+
+    @Override
+    public int indexOf(E item) {
+        checkNullItem(item);
+        for (int i = 0; i < size; i++) {
+            if (item.equals(innerArray[physical(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(E item) {
+        checkNullItem(item);
+        for (int i = size - 1; i >= 0; i--) {
+            if (item.equals(innerArray[physical(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public E get(int index) {
+        checkInvalidIndex(index);
+        return elementOf(physical(index));
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        return Arrays.equals(toArray(), ((RingBufferSimpleArrayList<?>) otherList).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(innerArray, null);
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int firstPart = Math.min(size, innerArray.length - head);
+        System.arraycopy(innerArray, head, array, 0, firstPart);
+        System.arraycopy(innerArray, 0, array, firstPart, size - firstPart);
+        return array;
+    }
+
+    /* Если элементы переходят через конец массива, перед сортировкой они выстраиваются с нуля */
+    private void linearize() {
+        if (head + size > innerArray.length) {
+            resize(innerArray.length);
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        linearize();
+        IntroSort.sort(innerArray, head, head + size, comparator);
+    }
+
+    @Override
+    public void quickSort() {
+        sort(null);
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        linearize();
+        ParallelSort.sort(innerArray, head, head + size, comparator, pool, ParallelSort.DEFAULT_THRESHOLD);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementOf(int rawIndex) {
+        return (E) innerArray[rawIndex];
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elementOf(physical(index++));
+            }
+        };
+    }
+}
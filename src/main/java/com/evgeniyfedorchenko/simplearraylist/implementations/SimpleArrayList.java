@@ -1,28 +1,77 @@
 package com.evgeniyfedorchenko.simplearraylist.implementations;
 
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
 import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
-
+import com.evgeniyfedorchenko.simplearraylist.io.ElementCodec;
+import com.evgeniyfedorchenko.simplearraylist.io.SimpleListFormat;
+import com.evgeniyfedorchenko.simplearraylist.jfr.CountingComparator;
+import com.evgeniyfedorchenko.simplearraylist.jfr.GrowEvent;
+import com.evgeniyfedorchenko.simplearraylist.jfr.ShiftEvent;
+import com.evgeniyfedorchenko.simplearraylist.jfr.SortEvent;
+import com.evgeniyfedorchenko.simplearraylist.sorting.IntroSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.MergeSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.RadixSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.Selection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
-import java.util.stream.IntStream;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public class SimpleArrayList<E> implements SimpleList<E> {
 
     private Object[] innerArray;
     private static final int DEFAULT_CAPACITY = 10;
-    private static final float boostRatio = 1.5F;
+    /* Оценка размера ссылки для GrowEvent.allocatedBytes: сжатые указатели */
+    private static final int REFERENCE_BYTES = 4;
+    private final GrowthPolicy growthPolicy;
     private int size;
+    /* true, если элементы заведомо упорядочены по естественному порядку:
+       тогда indexOf/lastIndexOf/contains ищут бинарным поиском.
+       Больше одного элемента флаг может быть только после успешной сортировки по естественному порядку */
+    private boolean sorted;
+    private int parallelSortThreshold = ParallelSort.DEFAULT_THRESHOLD;
+    /* Счетчик структурных изменений для fail-fast итераторов */
+    private int modCount;
+    /* Итератор, у которого после remove() остался неуплотненный разрыв в innerArray */
+    private Itr pendingCompaction;
+    /* Вспомогательные массивы поразрядной сортировки и слияний живут между вызовами, trimToSize их отпускает */
+    private RadixSort.Buffers radixBuffers;
+    private MergeSort.Buffer mergeBuffer;
 
     public SimpleArrayList() {
         this(DEFAULT_CAPACITY);
     }
 
     public SimpleArrayList(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DEFAULT);
+    }
+
+    public SimpleArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
         size = 0;
-        if (initialCapacity >= 0) {
+        if (initialCapacity >= 0 && growthPolicy != null) {
             this.innerArray = new Object[initialCapacity];
+            this.growthPolicy = growthPolicy;
+            this.sorted = true;
         } else {
             throw new IllegalArgumentException();
         }
@@ -31,46 +80,189 @@ public class SimpleArrayList<E> implements SimpleList<E> {
     public SimpleArrayList(Collection<? extends E> sourceCollection) {
         size = sourceCollection.size();
         this.innerArray = Arrays.copyOf(sourceCollection.toArray(), sourceCollection.size());
+        this.growthPolicy = GrowthPolicy.DEFAULT;
+        this.sorted = size <= 1;
     }
 
-    private void grow() {
-        Object[] newInnerArray = new Object[Math.round(size * boostRatio)];
+    /* Принимает массив во владение без копирования. Элементы [0, size) не должны быть null */
+    SimpleArrayList(Object[] adoptedArray, int size) {
+        this.innerArray = adoptedArray;
+        this.size = size;
+        this.growthPolicy = GrowthPolicy.DEFAULT;
+        this.sorted = size <= 1;
+    }
+
+    /* Отдает внутренний массив без копирования и оставляет список пустым,
+       чтобы сохраненная где-то ссылка на список не могла изменить отданный массив */
+    Object[] detachArray() {
+        settle();
+        modCount++;
+        Object[] array = innerArray;
+        innerArray = new Object[0];
+        size = 0;
+        sorted = true;
+        return array;
+    }
+
+    /* Любой доступ к innerArray снаружи итератора сначала закрывает отложенный разрыв */
+    private void settle() {
+        if (pendingCompaction != null) {
+            pendingCompaction.closeGap();
+        }
+    }
+
+    private void grow(int minCapacity) {
+        GrowEvent event = new GrowEvent();
+        event.begin();
+        Object[] newInnerArray = new Object[growthPolicy.newCapacity(innerArray.length, minCapacity)];
         System.arraycopy(innerArray, 0, newInnerArray, 0, size);
+        if (event.shouldCommit()) {
+            event.oldCapacity = innerArray.length;
+            event.newCapacity = newInnerArray.length;
+            event.copiedElements = size;
+            event.allocatedBytes = (long) newInnerArray.length * REFERENCE_BYTES;
+            event.commit();
+        }
+        recordGrow(innerArray.length, newInnerArray.length);
+        recordCopy(size);
         innerArray = newInnerArray;
     }
 
+    /* Точки для сбора метрик, см. InstrumentedSimpleArrayList. Пока подкласс не загружен,
+       JIT видит единственную пустую реализацию и встраивает вызовы без следа */
+
+    /**
+     * Массив вырос с oldCapacity до newCapacity.
+     */
+    protected void recordGrow(int oldCapacity, int newCapacity) {
+    }
+
+    /**
+     * Скопировано elements элементов массива.
+     */
+    protected void recordCopy(int elements) {
+    }
+
+    /**
+     * Сделано comparisons сравнений при бинарном поиске.
+     */
+    protected void recordComparisons(int comparisons) {
+    }
+
+    /**
+     * Просмотрено elements элементов при линейном поиске.
+     */
+    protected void recordScan(int elements) {
+    }
+
+    /**
+     * Компаратор, которым будет сортироваться список. null означает естественный порядок.
+     */
+    protected Comparator<? super E> sortComparator(Comparator<? super E> comparator) {
+        return comparator;
+    }
+
+    int capacity() {
+        return innerArray.length;
+    }
+
+    /**
+     * Увеличить емкость так, чтобы в список поместилось minCapacity элементов без перевыделения массива.
+     */
+    public void ensureCapacity(int minCapacity) {
+        settle();
+        modCount++;
+        if (minCapacity > innerArray.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Уменьшить емкость до фактического количества элементов.
+     */
+    public void trimToSize() {
+        settle();
+        modCount++;
+        if (size < innerArray.length) {
+            innerArray = Arrays.copyOf(innerArray, size);
+            recordCopy(size);
+        }
+        radixBuffers = null;
+        mergeBuffer = null;
+    }
+
     @Override
     public E add(E item) {
         checkNullItem(item);
-        if (size < innerArray.length) {
-            for (int i = 0; i < innerArray.length; i++) {
-                if (innerArray[i] == null) {
-                    innerArray[i] = item;
-                    size++;
-                    return item;
-                }
-            }
+        settle();
+        modCount++;
+        if (size == innerArray.length) {
+            grow(size + 1);
         }
-        int oldSize = size;
-        grow();
-        innerArray[oldSize] = item;
-        size++;
+        sorted &= size == 0;
+        innerArray[size++] = item;
         return item;
     }
 
+    @Override
+    public boolean addAll(Collection<? extends E> items) {
+        return appendAll(items.toArray());
+    }
+
+    @Override
+    public boolean addAll(SimpleList<? extends E> items) {
+        return appendAll(items.toArray());
+    }
+
+    @Override
+    public boolean addAll(E[] items) {
+        return appendAll(items);
+    }
+
+    /* Массив растет не больше одного раза, элементы копируются одним arraycopy */
+    private boolean appendAll(Object[] items) {
+        settle();
+        for (Object item : items) {
+            if (item == null) {
+                throw new NullPointerException();
+            }
+        }
+        ensureCapacity(size + items.length);
+        modCount++;
+        System.arraycopy(items, 0, innerArray, size, items.length);
+        recordCopy(items.length);
+        sorted &= size + items.length <= 1;
+        size += items.length;
+        return items.length > 0;
+    }
+
     @Override
     public E add(int index, E item) {
         checkNullItem(item);
+        settle();
         checkInvalidIndex(index);
-        if (size < innerArray.length) {
-            Object[] turnedEls = Arrays.copyOfRange(innerArray, index - 1, size - 1);
-            innerArray[index] = item;
-            System.arraycopy(turnedEls, 0, innerArray, index + 1, turnedEls.length);
-            size++;
-            return item;
+        modCount++;
+        if (size == innerArray.length) {
+            grow(size + 1);
+        }
+        shift(index + 1, index, size - index);
+        innerArray[index] = item;
+        size++;
+        sorted = false;
+        return item;
+    }
+
+    /* Сдвиг части массива при вставке или удалении в середине */
+    private void shift(int toIndex, int fromIndex, int length) {
+        ShiftEvent event = new ShiftEvent();
+        event.begin();
+        System.arraycopy(innerArray, fromIndex, innerArray, toIndex, length);
+        if (event.shouldCommit()) {
+            event.index = Math.min(fromIndex, toIndex);
+            event.movedElements = length;
+            event.commit();
         }
-        grow();
-        return add(index, item);
+        recordCopy(length);
     }
 
     private void checkInvalidIndex(int index) {
@@ -89,9 +281,11 @@ public class SimpleArrayList<E> implements SimpleList<E> {
     public E set(int index, E item) {
 
         checkNullItem(item);
+        settle();
         checkInvalidIndex(index);
         E oldValue = getItem(index);
         innerArray[index] = item;
+        sorted &= size == 1;
         return oldValue;
     }
 
@@ -99,47 +293,105 @@ public class SimpleArrayList<E> implements SimpleList<E> {
     public E remove(E item) {
         /* Так как оригинальный ArrayList удаляет только первое вхождение элемента,
            то будем тоже удалять только первое вхождение */
-        checkNullItem(item);
-        int index = IntStream.range(0, size)
-                .filter(i -> innerArray[i].equals(item))
-                .findAny()
-                .orElseThrow(NoSuchElementException::new);
+        int index = indexOf(item);
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
         return remove(index);
     }
 
     @Override
     public E remove(int index) {
+        settle();
         checkInvalidIndex(index);
+        modCount++;
         E item = getItem(index);
-        System.arraycopy(innerArray, index + 1, innerArray, index, size - index);
-        size--;
+        shift(index, index + 1, size - index - 1);
+        innerArray[--size] = null;
         return item;
     }
 
+    /* Сначала предикат проверяется на всех элементах, и только потом массив уплотняется за один проход.
+       Если предикат выбросит исключение, список не изменится */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        settle();
+        BitSet survivors = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (!filter.test(getItem(i))) {
+                survivors.set(i);
+            }
+        }
+        int newSize = survivors.cardinality();
+        if (newSize == size) {
+            return false;
+        }
+        modCount++;
+        int to = 0;
+        for (int from = survivors.nextSetBit(0); from >= 0; from = survivors.nextSetBit(from + 1)) {
+            innerArray[to++] = innerArray[from];
+        }
+        Arrays.fill(innerArray, newSize, size, null);
+        size = newSize;
+        return true;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        settle();
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        modCount++;
+        shift(fromIndex, toIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(innerArray, newSize, size, null);
+        size = newSize;
+    }
+
     @Override
     public int indexOf(E item) {
         checkNullItem(item);
-        for (int i = 0; i < size; i++) {
-            if (innerArray[i].equals(item)) {
+        settle();
+        if (sorted && size > 1) {
+            return binarySearch(item, false);
+        }
+        Object[] elements = innerArray;
+        for (int i = 0, n = size; i < n; i++) {
+            if (item.equals(elements[i])) {
+                recordScan(i + 1);
                 return i;
             }
         }
+        recordScan(size);
         return -1;
     }
 
     @Override
     public int lastIndexOf(E item) {
         checkNullItem(item);
-        for (int i = size - 1; i > 0; i--) {
-            if (innerArray[i].equals(item)) {
+        settle();
+        if (sorted && size > 1) {
+            return binarySearch(item, true);
+        }
+        Object[] elements = innerArray;
+        for (int i = size - 1; i >= 0; i--) {
+            if (item.equals(elements[i])) {
+                recordScan(size - i);
                 return i;
             }
         }
+        recordScan(size);
         return -1;
     }
 
     @Override
     public E get(int index) {
+        settle();
         checkInvalidIndex(index);
         return getItem(index);
     }
@@ -152,12 +404,13 @@ public class SimpleArrayList<E> implements SimpleList<E> {
         if (otherList == null || getClass() != otherList.getClass()) {
             return false;
         }
+        settle();
 
         SimpleArrayList<?> otherList1 = (SimpleArrayList<?>) otherList;
         if (size != otherList1.size()) {
             return false;
         }
-        for (int i = 0; i < size - 1; i++) {
+        for (int i = 0; i < size; i++) {
             if (!innerArray[i].equals(otherList1.get(i))) {
                 return false;
             }
@@ -177,92 +430,253 @@ public class SimpleArrayList<E> implements SimpleList<E> {
 
     @Override
     public void clear() {
-        for (Object element : innerArray) {
-            if (element == null) {
-                break;
-            }
-            element = null;
-        }
+        settle();
+        modCount++;
+        Arrays.fill(innerArray, 0, size, null);
         size = 0;
+        sorted = true;
     }
 
     @Override
     public boolean contains(E item) {
+        return indexOf(item) >= 0;
+    }
+
+    /* Ищет в отсортированном списке первое (или последнее) вхождение, равное item по equals.
+       Равные по compareTo, но не по equals элементы (как у BigDecimal) пропускаются */
+    private int binarySearch(E item, boolean last) {
+        int min = 0;
+        int max = size;
+        int comparisons = 0;
 
-        Object[] objects = innerArray;
-        boolean sorted = true;
-        for (int i = 0; i < size - 1; i++) {
-            if (compare(innerArray[i + 1], objects[i])) {
-                sorted = false;
-                break;
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            int comparison = compare(item, innerArray[mid]);
+            comparisons++;
+
+            if (comparison > 0 || (last && comparison == 0)) {
+                min = mid + 1;
+            } else {
+                max = mid;
             }
         }
-        if (!sorted) {
-            quickSort();
+        int found = -1;
+        if (last) {
+            for (int i = min - 1; i >= 0 && compare(item, innerArray[i]) == 0; i--) {
+                comparisons++;
+                if (item.equals(innerArray[i])) {
+                    found = i;
+                    break;
+                }
+            }
+        } else {
+            for (int i = min; i < size && compare(item, innerArray[i]) == 0; i++) {
+                comparisons++;
+                if (item.equals(innerArray[i])) {
+                    found = i;
+                    break;
+                }
+            }
         }
-        return binarySearch(item) >= 0;
+        recordComparisons(comparisons);
+        return found;
     }
 
-    private int binarySearch(E item) {
-        int min = 0;
-        int max = size - 1;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object firstObj, Object secondObj) {
+        return ((Comparable) firstObj).compareTo(secondObj);
+    }
 
-        while (min <= max) {
-            int mid = (min + max) / 2;
-            Object midElement = innerArray[mid];
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        settle();
+        modCount++;
+        Comparator<? super E> order = sortComparator(comparator);
+        SortEvent event = new SortEvent();
+        CountingComparator<E> counting = event.isEnabled() ? new CountingComparator<>(order) : null;
+        event.begin();
+        // поразрядный путь выбирается по компаратору вызывающего, а не по обертке sortComparator
+        if (!isNaturalOrder(comparator) || !radixSortNaturalOrder()) {
+            IntroSort.sort(innerArray, 0, size, counting != null ? counting : order);
+        }
+        commitSortEvent(event, counting, false);
+        sorted = isNaturalOrder(comparator) || size <= 1;
+    }
 
-            if (item.equals(midElement)) {
-                return mid;
-            } else if (compare(item, midElement)) {
-                max = mid - 1;
-            } else {
-                min = mid + 1;
+    /* Сравнения считаются, только если событие включено: иначе сортировка идет с исходным компаратором */
+    private void commitSortEvent(SortEvent event, CountingComparator<E> counting, boolean parallel) {
+        if (event.shouldCommit()) {
+            event.size = size;
+            // null, если запись включили уже во время сортировки
+            event.comparisons = counting != null ? counting.comparisons() : -1;
+            event.parallel = parallel;
+            event.commit();
+        }
+    }
+
+    private static boolean isNaturalOrder(Comparator<?> comparator) {
+        return comparator == null || comparator == Comparator.naturalOrder();
+    }
+
+    /* Начиная с RadixSort.THRESHOLD элементов списки из одних Integer или Long сортируются поразрядно,
+       без сравнений. false, если список для этого не подходит */
+    private boolean radixSortNaturalOrder() {
+        if (size < RadixSort.THRESHOLD) {
+            return false;
+        }
+        Class<?> type = innerArray[0].getClass();
+        for (int i = 1; i < size; i++) {
+            if (innerArray[i].getClass() != type) {
+                return false;
             }
         }
-        return -1;
+        if (type == Integer.class) {
+            RadixSort.<Integer>sortByInt(innerArray, 0, size, Integer::intValue, radixBuffers());
+            return true;
+        }
+        if (type == Long.class) {
+            RadixSort.<Long>sortByLong(innerArray, 0, size, Long::longValue, radixBuffers());
+            return true;
+        }
+        return false;
+    }
+
+    private RadixSort.Buffers radixBuffers() {
+        if (radixBuffers == null) {
+            radixBuffers = new RadixSort.Buffers();
+        }
+        return radixBuffers;
+    }
+
+    /**
+     * Стабильно отсортировать по возрастанию int-ключа поразрядной сортировкой за линейное время.
+     * Ключ вычисляется один раз для каждого элемента.
+     */
+    public void radixSortByInt(ToIntFunction<? super E> key) {
+        Objects.requireNonNull(key);
+        settle();
+        modCount++;
+        RadixSort.sortByInt(innerArray, 0, size, key, radixBuffers());
+        sorted = size <= 1;
+    }
+
+    /**
+     * Стабильно отсортировать по возрастанию long-ключа поразрядной сортировкой за линейное время.
+     * Ключ вычисляется один раз для каждого элемента.
+     */
+    public void radixSortByLong(ToLongFunction<? super E> key) {
+        Objects.requireNonNull(key);
+        settle();
+        modCount++;
+        RadixSort.sortByLong(innerArray, 0, size, key, radixBuffers());
+        sorted = size <= 1;
+    }
+
+    /**
+     * Стабильно отсортировать по строковому ключу в порядке String.compareTo.
+     * Поразрядно, если все ключи не длиннее {@link RadixSort#MAX_STRING_KEY_LENGTH} символов с кодом меньше 256,
+     * иначе - стабильной сортировкой сравнениями по тому же ключу.
+     */
+    @SuppressWarnings("unchecked")
+    public void radixSortByString(Function<? super E, String> key) {
+        Objects.requireNonNull(key);
+        settle();
+        modCount++;
+        if (!RadixSort.sortByString(innerArray, 0, size, key, radixBuffers())) {
+            Arrays.sort(innerArray, 0, size, Comparator.comparing(item -> key.apply((E) item)));
+        }
+        sorted = size <= 1;
     }
 
     @Override
     public void quickSort() {
-        quickSort(innerArray, 0, size - 1);
+        sort(null);
     }
 
-    private void quickSort(Object[] arr, int low, int high) {
-        if (low < high) {
-
-            Object pivot = arr[high];
-            int i = (low - 1);
+    @Override
+    public void stableSort(Comparator<? super E> comparator) {
+        settle();
+        modCount++;
+        if (mergeBuffer == null) {
+            mergeBuffer = new MergeSort.Buffer();
+        }
+        SortEvent event = new SortEvent();
+        Comparator<? super E> order = sortComparator(comparator);
+        CountingComparator<E> counting = event.isEnabled() ? new CountingComparator<>(order) : null;
+        event.begin();
+        MergeSort.sort(innerArray, 0, size, counting != null ? counting : order, mergeBuffer);
+        commitSortEvent(event, counting, false);
+        sorted = isNaturalOrder(comparator) || size <= 1;
+    }
 
-            for (int j = low; j < high; j++) {
-                if(compare(arr[j], pivot)) {
-                    i++;
-                    Object temp = arr[i];
-                    arr[i] = arr[j];
-                    arr[j] = temp;
-                }
-            }
-            Object temp = arr[i + 1];
-            arr[i + 1] = arr[high];
-            arr[high] = temp;
-            int pi = i + 1;
+    /* Список, уже упорядоченный по естественному порядку, отвечает без перестановок */
+    @Override
+    public E select(int k, Comparator<? super E> comparator) {
+        settle();
+        checkInvalidIndex(k);
+        if (!(sorted && isNaturalOrder(comparator))) {
+            modCount++;
+            Selection.select(innerArray, 0, size, k, sortComparator(comparator));
+            sorted = size <= 1;
+        }
+        return getItem(k);
+    }
 
-            quickSort(arr, low, pi - 1);
-            quickSort(arr, pi + 1, high);
+    @Override
+    public SimpleList<E> topK(int k, Comparator<? super E> comparator) {
+        settle();
+        if (k < 0) {
+            throw new IllegalArgumentException();
         }
+        Object[] top = sorted && isNaturalOrder(comparator)
+                ? Arrays.copyOf(innerArray, Math.min(k, size))
+                : Selection.smallest(innerArray, 0, size, k, sortComparator(comparator));
+        SimpleArrayList<E> result = new SimpleArrayList<>(top, top.length);
+        result.sorted = isNaturalOrder(comparator) || top.length <= 1;
+        return result;
     }
 
-    private boolean compare(Object firstObj, Object secondObj) {
+    @Override
+    public void partialSort(int k, Comparator<? super E> comparator) {
+        settle();
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (sorted && isNaturalOrder(comparator)) {
+            return;
+        }
+        modCount++;
+        Selection.partialSort(innerArray, 0, size, k, sortComparator(comparator));
+        sorted = isNaturalOrder(comparator) && k >= size || size <= 1;
+    }
 
-        String firstString = firstObj.toString();
-        String secondString = secondObj.toString();
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        settle();
+        modCount++;
+        SortEvent event = new SortEvent();
+        Comparator<? super E> order = sortComparator(comparator);
+        CountingComparator<E> counting = event.isEnabled() ? new CountingComparator<>(order) : null;
+        event.begin();
+        ParallelSort.sort(innerArray, 0, size, counting != null ? counting : order,
+                pool, parallelSortThreshold);
+        commitSortEvent(event, counting, true);
+        sorted = isNaturalOrder(comparator) || size <= 1;
+    }
 
-        return firstString.matches("\\d+")
-                ? 0 > Long.parseLong(firstString) - Long.parseLong(secondString)
-                : 0 > firstString.compareTo(secondString);
+    /**
+     * Задать размер части списка, которую parallelSort сортирует последовательно, без деления на подзадачи.
+     */
+    public void setParallelSortThreshold(int parallelSortThreshold) {
+        if (parallelSortThreshold < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.parallelSortThreshold = parallelSortThreshold;
     }
 
     @Override
     public Object[] toArray() {
+        settle();
         return Arrays.copyOf(innerArray, size);
     }
 
@@ -271,26 +685,212 @@ public class SimpleArrayList<E> implements SimpleList<E> {
         return Arrays.toString(toArray());
     }
 
+    /**
+     * Записать список в двоичном формате {@link SimpleListFormat}. Поток не закрывается.
+     */
+    public void writeTo(OutputStream out, ElementCodec<? super E> codec) throws IOException {
+        writeTo(Channels.newChannel(out), codec);
+    }
+
+    /**
+     * Записать список в двоичном формате {@link SimpleListFormat}. Канал не закрывается.
+     */
+    public void writeTo(WritableByteChannel channel, ElementCodec<? super E> codec) throws IOException {
+        settle();
+        SimpleListFormat.write(innerArray, size, codec, channel);
+    }
+
+    /**
+     * Прочитать список, записанный {@link #writeTo(OutputStream, ElementCodec)}. Поток не закрывается.
+     */
+    public static <E> SimpleArrayList<E> readFrom(InputStream in, ElementCodec<E> codec) throws IOException {
+        return readFrom(Channels.newChannel(in), codec);
+    }
+
+    /**
+     * Прочитать список, записанный {@link #writeTo(WritableByteChannel, ElementCodec)}.
+     * Количество из заголовка не проверено, поэтому сразу выделяется не больше 65536 элементов,
+     * а дальше массив растет вдвое по мере чтения.
+     * Итоговый массив длиной ровно в количество элементов список принимает без копирования.
+     */
+    public static <E> SimpleArrayList<E> readFrom(ReadableByteChannel channel, ElementCodec<E> codec) throws IOException {
+        Object[] elements = SimpleListFormat.read(channel, codec);
+        return new SimpleArrayList<>(elements, elements.length);
+    }
+
     @SuppressWarnings("unchecked")
     private E getItem(int index) {
         return (E) innerArray[index];
     }
 
+    /* SIZED | SUBSIZED | ORDERED | NONNULL, trySplit делит оставшийся диапазон innerArray пополам */
+    @Override
+    public Spliterator<E> spliterator() {
+        settle();
+        return Spliterators.spliterator(innerArray, 0, size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
     @Override
     public Iterator<E> iterator() {
-        return new Iterator<>() {
-            private int index = 0;
+        return listIterator(0);
+    }
 
-            @Override
-            public boolean hasNext() {
-                return index < size;
+    public ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Итератор, начинающий с позиции index (0..size).
+     * Fail-fast: бросает ConcurrentModificationException, если список структурно изменили в обход итератора.
+     */
+    public ListIterator<E> listIterator(int index) {
+        settle();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new Itr(index);
+    }
+
+    /* remove() не сдвигает хвост: удаленные элементы образуют разрыв [write, cursor) в innerArray,
+       а next() по одному переносит элементы через разрыв. Поэтому k удалений за проход стоят O(n), а не O(k*n).
+       Логический индекс i соответствует innerArray[i] до разрыва и innerArray[i - write + cursor] после него.
+       Разрыв закрывается одним arraycopy, когда проход заканчивается или список используют в обход итератора */
+    private class Itr implements ListIterator<E> {
+
+        /* Позиция в innerArray следующего непрочитанного элемента */
+        private int cursor;
+        /* Логический индекс следующего элемента. Без разрыва совпадает с cursor */
+        private int write;
+        /* Логический индекс последнего возвращенного элемента или -1 */
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        Itr(int index) {
+            cursor = index;
+            write = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (write < size) {
+                return true;
+            }
+            if (cursor != write) {
+                closeGap();
+            }
+            return false;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (write >= size) {
+                throw new NoSuchElementException();
             }
+            Object item = innerArray[cursor++];
+            if (cursor - 1 != write) {
+                innerArray[write] = item;
+            }
+            lastRet = write++;
+            return elementOf(item);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return write > 0;
+        }
 
-            @Override
-            public E next() {
-                index++;
-                return getItem(index);
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (write <= 0) {
+                throw new NoSuchElementException();
+            }
+            Object item = innerArray[--write];
+            if (--cursor != write) {
+                innerArray[cursor] = item;
             }
-        };
+            lastRet = write;
+            return elementOf(item);
+        }
+
+        @Override
+        public int nextIndex() {
+            return write;
+        }
+
+        @Override
+        public int previousIndex() {
+            return write - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (lastRet < write) {
+                write--;
+            } else {
+                innerArray[cursor++] = null;
+            }
+            size--;
+            lastRet = -1;
+            expectedModCount = ++modCount;
+            pendingCompaction = cursor != write ? this : null;
+        }
+
+        @Override
+        public void set(E item) {
+            checkNullItem(item);
+            if (lastRet < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            innerArray[lastRet < write ? lastRet : lastRet - write + cursor] = item;
+            sorted &= size == 1;
+        }
+
+        @Override
+        public void add(E item) {
+            checkNullItem(item);
+            checkForComodification();
+            if (cursor == write) {
+                if (size == innerArray.length) {
+                    grow(size + 1);
+                }
+                System.arraycopy(innerArray, write, innerArray, write + 1, size - write);
+                recordCopy(size - write);
+                cursor++;
+            } else if (cursor == write + 1) {
+                pendingCompaction = null;
+            }
+            innerArray[write++] = item;
+            size++;
+            sorted = false;
+            lastRet = -1;
+            expectedModCount = ++modCount;
+        }
+
+        void closeGap() {
+            int tail = size - write;
+            System.arraycopy(innerArray, cursor, innerArray, write, tail);
+            recordCopy(tail);
+            Arrays.fill(innerArray, size, cursor + tail, null);
+            cursor = write;
+            pendingCompaction = null;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private E elementOf(Object item) {
+            return (E) item;
+        }
     }
 }
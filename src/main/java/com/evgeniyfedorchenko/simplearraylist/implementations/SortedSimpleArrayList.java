@@ -0,0 +1,452 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import com.evgeniyfedorchenko.simplearraylist.sorting.MergeSort;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * Список на массиве, который всегда упорядочен компаратором.
+ * add находит позицию бинарным поиском и сдвигает хвост одним System.arraycopy. Равные элементы
+ * идут в порядке добавления. indexOf, lastIndexOf, contains, поиск в remove(E), floor, ceiling
+ * и границы range работают за O(log n).
+ * addAll сортирует пачку и сливает ее с массивом за O(n + m log m) вместо m вставок.
+ * Вставка по индексу и set нарушили бы порядок, поэтому не поддерживаются.
+ */
+public class SortedSimpleArrayList<E> implements SimpleList<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final Comparator<? super E> comparator;
+    private Object[] innerArray;
+    private int size;
+
+    /**
+     * Список в естественном порядке элементов.
+     */
+    public SortedSimpleArrayList() {
+        this(DEFAULT_CAPACITY, null);
+    }
+
+    /**
+     * Список в порядке компаратора. null означает естественный порядок.
+     */
+    public SortedSimpleArrayList(Comparator<? super E> comparator) {
+        this(DEFAULT_CAPACITY, comparator);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SortedSimpleArrayList(int initialCapacity, Comparator<? super E> comparator) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.innerArray = new Object[initialCapacity];
+        this.comparator = comparator != null ? comparator : (Comparator) Comparator.naturalOrder();
+    }
+
+    public SortedSimpleArrayList(Collection<? extends E> sourceCollection, Comparator<? super E> comparator) {
+        this(sourceCollection.size(), comparator);
+        addAll(sourceCollection);
+    }
+
+    /**
+     * Компаратор, которым упорядочен список.
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    private void ensureArrayCapacity(int minCapacity) {
+        if (minCapacity > innerArray.length) {
+            innerArray = Arrays.copyOf(innerArray,
+                    GrowthPolicy.DEFAULT.newCapacity(innerArray.length, minCapacity));
+        }
+    }
+
+    private void checkInvalidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    /* Сортировка этим же порядком ничего не меняет, любым другим - нарушила бы инвариант */
+    private boolean isOwnOrder(Comparator<? super E> other) {
+        return other == comparator || other == null && comparator == Comparator.naturalOrder();
+    }
+
+    private void checkOwnOrder(Comparator<? super E> other) {
+        if (!isOwnOrder(other)) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private int compare(E item, int index) {
+        return comparator.compare(item, getItem(index));
+    }
+
+    /* Первая позиция, элемент на которой не меньше item */
+    private int lowerBound(E item) {
+        int min = 0;
+        int max = size;
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            if (compare(item, mid) > 0) {
+                min = mid + 1;
+            } else {
+                max = mid;
+            }
+        }
+        return min;
+    }
+
+    /* Первая позиция, элемент на которой больше item */
+    private int upperBound(E item) {
+        int min = 0;
+        int max = size;
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            if (compare(item, mid) >= 0) {
+                min = mid + 1;
+            } else {
+                max = mid;
+            }
+        }
+        return min;
+    }
+
+    @Override
+    public E add(E item) {
+        checkNullItem(item);
+        int index = upperBound(item);
+        ensureArrayCapacity(size + 1);
+        System.arraycopy(innerArray, index, innerArray, index + 1, size - index);
+        innerArray[index] = item;
+        size++;
+        return item;
+    }
+
+    @Override
+    public E add(int index, E item) {
+        throw new UnsupportedOperationException();
+    }
+
+    /* Пачка сортируется стабильно и вливается в массив с конца без вспомогательного массива под весь список:
+       позиция каждого элемента пачки ищется экспоненциальным поиском, а элементы списка между соседними
+       позициями сдвигаются блоком. При равенстве пачка идет после уже добавленных элементов, как и при add */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(E[] items) {
+        for (E item : items) {
+            checkNullItem(item);
+        }
+        if (items.length == 0) {
+            return false;
+        }
+        Object[] batch = Arrays.copyOf(items, items.length, Object[].class);
+        MergeSort.sort(batch, 0, batch.length, comparator, new MergeSort.Buffer());
+        ensureArrayCapacity(size + batch.length);
+        int existingEnd = size;
+        int dest = size + batch.length;
+        for (int added = batch.length - 1; added >= 0; added--) {
+            E item = (E) batch[added];
+            int position = gallopUpperBound(item, existingEnd);
+            int moved = existingEnd - position;
+            dest -= moved;
+            System.arraycopy(innerArray, position, innerArray, dest, moved);
+            innerArray[--dest] = item;
+            existingEnd = position;
+        }
+        size += batch.length;
+        return true;
+    }
+
+    /* upperBound в innerArray[0..end), но шагами 1, 2, 4... от конца: чем ближе ответ к end, тем меньше сравнений */
+    private int gallopUpperBound(E item, int end) {
+        int high = end;
+        int offset = 1;
+        while (offset > 0 && offset <= end && compare(item, end - offset) < 0) {
+            high = end - offset;
+            offset <<= 1;
+        }
+        int low = offset > 0 && offset <= end ? end - offset + 1 : 0;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(item, mid) >= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public E set(int index, E item) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E remove(E item) {
+        int index = indexOf(item);
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return remove(index);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkInvalidIndex(index);
+        E item = getItem(index);
+        System.arraycopy(innerArray, index + 1, innerArray, index, size - index - 1);
+        innerArray[--size] = null;
+        return item;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        // сначала только отметки: если filter бросит исключение, список и его порядок останутся нетронутыми
+        BitSet removed = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (filter.test(getItem(i))) {
+                removed.set(i);
+            }
+        }
+        if (removed.isEmpty()) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = removed.nextClearBit(0); i < size; i = removed.nextClearBit(i + 1)) {
+            innerArray[kept++] = innerArray[i];
+        }
+        Arrays.fill(innerArray, kept, size, null);
+        size = kept;
+        return true;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        System.arraycopy(innerArray, toIndex, innerArray, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(innerArray, newSize, size, null);
+        size = newSize;
+    }
+
+    @Override
+    public boolean contains(E item) {
+        return indexOf(item) >= 0;
+    }
+
+    /* Равные по компаратору, но не по equals элементы пропускаются */
+    @Override
+    public int indexOf(E item) {
+        checkNullItem(item);
+        for (int i = lowerBound(item); i < size && compare(item, i) == 0; i++) {
+            if (item.equals(innerArray[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(E item) {
+        checkNullItem(item);
+        for (int i = upperBound(item) - 1; i >= 0 && compare(item, i) == 0; i--) {
+            if (item.equals(innerArray[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Наибольший элемент, не больший item, или null, если такого нет.
+     */
+    public E floor(E item) {
+        checkNullItem(item);
+        int index = upperBound(item) - 1;
+        return index >= 0 ? getItem(index) : null;
+    }
+
+    /**
+     * Наименьший элемент, не меньший item, или null, если такого нет.
+     */
+    public E ceiling(E item) {
+        checkNullItem(item);
+        int index = lowerBound(item);
+        return index < size ? getItem(index) : null;
+    }
+
+    /**
+     * Новый список с тем же компаратором из элементов от fromItem включительно до toItem не включительно.
+     * Выбросить исключение, если fromItem больше toItem.
+     */
+    public SortedSimpleArrayList<E> range(E fromItem, E toItem) {
+        checkNullItem(fromItem);
+        checkNullItem(toItem);
+        if (comparator.compare(fromItem, toItem) > 0) {
+            throw new IllegalArgumentException();
+        }
+        int from = lowerBound(fromItem);
+        int to = lowerBound(toItem);
+        SortedSimpleArrayList<E> range = new SortedSimpleArrayList<>(to - from, comparator);
+        System.arraycopy(innerArray, from, range.innerArray, 0, to - from);
+        range.size = to - from;
+        return range;
+    }
+
+    @Override
+    public E get(int index) {
+        checkInvalidIndex(index);
+        return getItem(index);
+    }
+
+    @Override
+    public E select(int k, Comparator<? super E> comparator) {
+        return isOwnOrder(comparator) ? get(k) : SimpleList.super.select(k, comparator);
+    }
+
+    @Override
+    public SimpleList<E> topK(int k, Comparator<? super E> comparator) {
+        if (!isOwnOrder(comparator)) {
+            return SimpleList.super.topK(k, comparator);
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        SortedSimpleArrayList<E> top = new SortedSimpleArrayList<>(Math.min(k, size), this.comparator);
+        System.arraycopy(innerArray, 0, top.innerArray, 0, top.innerArray.length);
+        top.size = top.innerArray.length;
+        return top;
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        SortedSimpleArrayList<?> other = (SortedSimpleArrayList<?>) otherList;
+        return Arrays.equals(innerArray, 0, size, other.innerArray, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + innerArray[i].hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(innerArray, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(innerArray, size);
+    }
+
+    /**
+     * Список уже упорядочен: сортировка тем же порядком ничего не делает, другим - не поддерживается.
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        checkOwnOrder(comparator);
+    }
+
+    @Override
+    public void quickSort() {
+        sort(null);
+    }
+
+    @Override
+    public void stableSort(Comparator<? super E> comparator) {
+        checkOwnOrder(comparator);
+    }
+
+    @Override
+    public void partialSort(int k, Comparator<? super E> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        checkOwnOrder(comparator);
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        checkOwnOrder(comparator);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private E getItem(int index) {
+        return (E) innerArray[index];
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(innerArray, 0, size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return getItem(index++);
+            }
+        };
+    }
+}
@@ -0,0 +1,211 @@
+package com.evgeniyfedorchenko.simplearraylist.interfaces;
+
+import com.evgeniyfedorchenko.simplearraylist.sorting.IntroSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Простой список на массиве для результатов default-методов {@link SimpleList}, например topK.
+ * Живет рядом с интерфейсом, чтобы интерфейс не зависел от пакета implementations.
+ * Принимает переданный массив во владение без копирования.
+ */
+final class ArraySimpleList<E> implements SimpleList<E> {
+
+    private Object[] innerArray;
+    private int size;
+
+    /* Элементы adoptedArray не должны быть null */
+    ArraySimpleList(Object[] adoptedArray) {
+        this.innerArray = adoptedArray;
+        this.size = adoptedArray.length;
+    }
+
+    private void checkInvalidIndex(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkNullItem(E item) {
+        if (item == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > innerArray.length) {
+            innerArray = Arrays.copyOf(innerArray, GrowthPolicy.DEFAULT.newCapacity(innerArray.length, minCapacity));
+        }
+    }
+
+    @Override
+    public E add(E item) {
+        checkNullItem(item);
+        ensureCapacity(size + 1);
+        innerArray[size++] = item;
+        return item;
+    }
+
+    @Override
+    public E add(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        ensureCapacity(size + 1);
+        System.arraycopy(innerArray, index, innerArray, index + 1, size - index);
+        innerArray[index] = item;
+        size++;
+        return item;
+    }
+
+    @Override
+    public E set(int index, E item) {
+        checkNullItem(item);
+        checkInvalidIndex(index);
+        E oldValue = getItem(index);
+        innerArray[index] = item;
+        return oldValue;
+    }
+
+    @Override
+    public E remove(E item) {
+        int index = indexOf(item);
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return remove(index);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkInvalidIndex(index);
+        E item = getItem(index);
+        System.arraycopy(innerArray, index + 1, innerArray, index, size - index - 1);
+        innerArray[--size] = null;
+        return item;
+    }
+
+    @Override
+    public boolean contains(E item) {
+        return indexOf(item) >= 0;
+    }
+
+    @Override
+    public int indexOf(E item) {
+        checkNullItem(item);
+        for (int i = 0; i < size; i++) {
+            if (item.equals(innerArray[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(E item) {
+        checkNullItem(item);
+        for (int i = size - 1; i >= 0; i--) {
+            if (item.equals(innerArray[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public E get(int index) {
+        checkInvalidIndex(index);
+        return getItem(index);
+    }
+
+    @Override
+    public boolean equals(Object otherList) {
+        if (this == otherList) {
+            return true;
+        }
+        if (otherList == null || getClass() != otherList.getClass()) {
+            return false;
+        }
+        ArraySimpleList<?> other = (ArraySimpleList<?>) otherList;
+        return Arrays.equals(innerArray, 0, size, other.innerArray, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + innerArray[i].hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(innerArray, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(innerArray, size);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        IntroSort.sort(innerArray, 0, size, comparator);
+    }
+
+    @Override
+    public void quickSort() {
+        sort(null);
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool) {
+        ParallelSort.sort(innerArray, 0, size, comparator, pool, ParallelSort.DEFAULT_THRESHOLD);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private E getItem(int index) {
+        return (E) innerArray[index];
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return getItem(index++);
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.evgeniyfedorchenko.simplearraylist.interfaces;
+
+/**
+ * Стратегия роста внутреннего массива списка.
+ * Вычисляет новую емкость по текущей и минимально необходимой.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Максимальный размер массива, который гарантированно может выделить JVM.
+     */
+    int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Рост в полтора раза, как у java.util.ArrayList.
+     */
+    GrowthPolicy DEFAULT = of(1.5F, 0, Integer.MAX_VALUE);
+
+    /**
+     * Вернуть новую емкость, не меньшую minCapacity.
+     * Выбросить OutOfMemoryError, если minCapacity больше допустимого размера массива.
+     */
+    int newCapacity(int oldCapacity, int minCapacity);
+
+    /**
+     * Емкость умножается на factor, к ней прибавляется step,
+     * но за один раз массив не вырастает больше чем на maxChunk элементов.
+     * Если этого не хватает, емкость становится равной требуемой.
+     */
+    static GrowthPolicy of(float factor, int step, int maxChunk) {
+        if (factor < 1.0F || step < 0 || maxChunk <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return (oldCapacity, minCapacity) -> {
+            if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+                throw new OutOfMemoryError("Required array size too large");
+            }
+            long grown = (long) (oldCapacity * (double) factor) + step;
+            long capacity = Math.min(grown, (long) oldCapacity + maxChunk);
+            return (int) Math.min(Math.max(capacity, minCapacity), MAX_ARRAY_SIZE);
+        };
+    }
+}
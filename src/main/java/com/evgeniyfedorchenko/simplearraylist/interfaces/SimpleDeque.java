@@ -0,0 +1,40 @@
+package com.evgeniyfedorchenko.simplearraylist.interfaces;
+
+public interface SimpleDeque<E> extends SimpleList<E> {
+
+    /**
+     * Добавление элемента в начало списка.
+     * Вернуть добавленный элемент в качестве результата выполнения.
+     */
+    E addFirst(E item);
+
+    /**
+     * Добавление элемента в конец списка, то же, что add(E).
+     * Вернуть добавленный элемент в качестве результата выполнения.
+     */
+    E addLast(E item);
+
+    /**
+     * Удаление первого элемента.
+     * Вернуть удаленный элемент или исключение, если список пуст.
+     */
+    E removeFirst();
+
+    /**
+     * Удаление последнего элемента.
+     * Вернуть удаленный элемент или исключение, если список пуст.
+     */
+    E removeLast();
+
+    /**
+     * Первый элемент без удаления.
+     * Вернуть элемент или null, если список пуст.
+     */
+    E peekFirst();
+
+    /**
+     * Последний элемент без удаления.
+     * Вернуть элемент или null, если список пуст.
+     */
+    E peekLast();
+}
@@ -1,5 +1,21 @@
 package com.evgeniyfedorchenko.simplearraylist.interfaces;
 
+import com.evgeniyfedorchenko.simplearraylist.sorting.Selection;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface SimpleList<E> extends Iterable<E>{
 
     /**
@@ -88,5 +104,214 @@ public interface SimpleList<E> extends Iterable<E>{
      */
     Object[] toArray();
 
+    /**
+     * Отсортировать список компаратором.
+     * Если передан null, элементы сортируются по естественному порядку
+     * и должны реализовывать Comparable.
+     */
+    void sort(Comparator<? super E> comparator);
+
+    /**
+     * Отсортировать список по естественному порядку элементов.
+     */
     void quickSort();
+
+    /**
+     * Стабильно отсортировать список компаратором: равные элементы сохраняют взаимный порядок,
+     * поэтому можно сортировать сначала по второстепенному ключу, потом по главному.
+     * Если передан null, элементы сортируются по естественному порядку.
+     * Уже упорядоченные серии используются как есть, почти отсортированный список сортируется почти за O(n).
+     */
+    @SuppressWarnings("unchecked")
+    default void stableSort(Comparator<? super E> comparator) {
+        Object[] elements = toArray();
+        Arrays.sort(elements, (Comparator<Object>) comparator);
+        for (int i = 0; i < elements.length; i++) {
+            set(i, (E) elements[i]);
+        }
+    }
+
+    /**
+     * Вернуть k-й (с нуля) элемент в порядке компаратора - тот, что оказался бы на позиции k после sort(comparator).
+     * Если передан null, используется естественный порядок. В среднем O(n), порядок элементов списка может измениться.
+     * Выбросить исключение, если k выходит за пределы фактического количества элементов.
+     */
+    @SuppressWarnings("unchecked")
+    default E select(int k, Comparator<? super E> comparator) {
+        if (k >= size() || k < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        Object[] elements = toArray();
+        Selection.select(elements, 0, elements.length, k, comparator);
+        return (E) elements[k];
+    }
+
+    /**
+     * Вернуть новый список из k первых в порядке компаратора элементов, упорядоченный этим компаратором.
+     * Для k наибольших передать обратный компаратор. Если элементов меньше k, в новый список попадают все.
+     * Сам список не меняется. O(n log k).
+     */
+    default SimpleList<E> topK(int k, Comparator<? super E> comparator) {
+        Object[] elements = toArray();
+        return new ArraySimpleList<>(Selection.smallest(elements, 0, elements.length, k, comparator));
+    }
+
+    /**
+     * Упорядочить по естественному порядку только первые k позиций: на них встают k наименьших элементов,
+     * остальные остаются в произвольном порядке.
+     */
+    default void partialSort(int k) {
+        partialSort(k, null);
+    }
+
+    /**
+     * Упорядочить компаратором только первые k позиций: на них встают k первых в порядке компаратора элементов,
+     * остальные остаются в произвольном порядке. O(n + k log k). Если k не меньше размера, сортируется весь список.
+     */
+    @SuppressWarnings("unchecked")
+    default void partialSort(int k, Comparator<? super E> comparator) {
+        Object[] elements = toArray();
+        Selection.partialSort(elements, 0, elements.length, k, comparator);
+        for (int i = 0; i < elements.length; i++) {
+            set(i, (E) elements[i]);
+        }
+    }
+
+    /**
+     * Отсортировать список компаратором параллельно в общем ForkJoinPool.
+     * Если передан null, элементы сортируются по естественному порядку.
+     */
+    default void parallelSort(Comparator<? super E> comparator) {
+        parallelSort(comparator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Отсортировать список компаратором параллельно в переданном пуле.
+     * Небольшие списки сортируются последовательно.
+     */
+    void parallelSort(Comparator<? super E> comparator, ForkJoinPool pool);
+
+    /**
+     * Добавить в конец все элементы коллекции.
+     * Вернуть true, если список изменился, или исключение, если среди элементов есть null.
+     */
+    default boolean addAll(Collection<? extends E> items) {
+        return addAll(toTypedArray(items.toArray()));
+    }
+
+    /**
+     * Добавить в конец все элементы другого списка.
+     * Вернуть true, если список изменился.
+     */
+    default boolean addAll(SimpleList<? extends E> items) {
+        return addAll(toTypedArray(items.toArray()));
+    }
+
+    /**
+     * Добавить в конец все элементы массива.
+     * Вернуть true, если список изменился, или исключение, если среди элементов есть null.
+     */
+    default boolean addAll(E[] items) {
+        for (E item : items) {
+            add(item);
+        }
+        return items.length > 0;
+    }
+
+    /**
+     * Удалить все элементы, удовлетворяющие условию.
+     * Вернуть true, если что-то было удалено.
+     */
+    @SuppressWarnings("unchecked")
+    default boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        Object[] elements = toArray();
+        BitSet survivors = new BitSet(elements.length);
+        for (int i = 0; i < elements.length; i++) {
+            if (!filter.test((E) elements[i])) {
+                survivors.set(i);
+            }
+        }
+        if (survivors.cardinality() == elements.length) {
+            return false;
+        }
+        clear();
+        for (int i = survivors.nextSetBit(0); i >= 0; i = survivors.nextSetBit(i + 1)) {
+            add((E) elements[i]);
+        }
+        return true;
+    }
+
+    /**
+     * Удалить все элементы, содержащиеся в коллекции.
+     * Вернуть true, если что-то было удалено.
+     */
+    default boolean removeAll(Collection<?> items) {
+        Collection<?> lookup = asLookup(items);
+        return removeIf(lookup::contains);
+    }
+
+    /**
+     * Оставить только элементы, содержащиеся в коллекции.
+     * Вернуть true, если что-то было удалено.
+     */
+    default boolean retainAll(Collection<?> items) {
+        Collection<?> lookup = asLookup(items);
+        return removeIf(item -> !lookup.contains(item));
+    }
+
+    /**
+     * Удалить элементы с индексами от fromIndex включительно до toIndex не включительно.
+     * Выбросить исключение, если диапазон выходит за пределы фактического количества элементов.
+     */
+    @SuppressWarnings("unchecked")
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        Object[] elements = toArray();
+        clear();
+        for (int i = 0; i < elements.length; i++) {
+            if (i < fromIndex || i >= toIndex) {
+                add((E) elements[i]);
+            }
+        }
+    }
+
+    /**
+     * Spliterator по элементам списка с известным размером.
+     * Реализации на массиве возвращают spliterator, который делит диапазон массива пополам.
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Последовательный поток элементов списка.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Параллельный поток элементов списка.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E[] toTypedArray(Object[] items) {
+        return (E[]) items;
+    }
+
+    /* Коллекции без быстрого contains (например, списки) копируются в HashSet,
+       чтобы removeAll/retainAll не стали квадратичными */
+    private static Collection<?> asLookup(Collection<?> items) {
+        return items instanceof Set<?> ? items : new HashSet<>(items);
+    }
 }
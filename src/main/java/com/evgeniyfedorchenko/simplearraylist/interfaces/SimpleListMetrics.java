@@ -0,0 +1,51 @@
+package com.evgeniyfedorchenko.simplearraylist.interfaces;
+
+import javax.management.MXBean;
+
+/**
+ * Счетчики работы списка. Помечен как MXBean, поэтому регистрируется в JMX как есть.
+ */
+@MXBean
+public interface SimpleListMetrics {
+
+    /**
+     * Сколько раз перевыделялся массив.
+     */
+    long getGrowCount();
+
+    /**
+     * Сколько элементов скопировано при росте, вставке и удалении.
+     */
+    long getCopiedElements();
+
+    /**
+     * Сколько сравнений сделали сортировки и бинарный поиск.
+     */
+    long getComparisons();
+
+    /**
+     * Сколько элементов просмотрено линейным поиском в indexOf, lastIndexOf, contains и remove(E).
+     */
+    long getScannedElements();
+
+    int getSize();
+
+    int getCapacity();
+
+    int getPeakCapacity();
+
+    /**
+     * Незанятая часть массива: (capacity - size) / capacity.
+     */
+    double getWastedCapacityRatio();
+
+    /**
+     * Скопировано элементов на каждый элемент списка: copiedElements / size.
+     */
+    double getCopyAmplification();
+
+    /**
+     * Обнулить счетчики.
+     */
+    void reset();
+}
@@ -0,0 +1,157 @@
+package com.evgeniyfedorchenko.simplearraylist.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Двоичное представление элементов списка для {@link SimpleListFormat}.
+ * Элементы фиксированной ширины пишутся подряд, элементам переменной ширины формат добавляет префикс длины.
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Идентификатор типа элементов. Записывается в заголовок и проверяется при чтении.
+     */
+    int typeId();
+
+    /**
+     * Ширина элемента в байтах или -1, если ширина у каждого элемента своя.
+     */
+    int width();
+
+    /**
+     * Размер элемента в байтах без префикса длины.
+     */
+    int encodedSize(E item);
+
+    /**
+     * Записать элемент в буфер. В буфере гарантированно есть encodedSize(item) свободных байт.
+     */
+    void encode(E item, ByteBuffer out);
+
+    /**
+     * Прочитать элемент длиной length байт. В буфере гарантированно есть length байт.
+     */
+    E decode(ByteBuffer in, int length);
+
+    ElementCodec<Integer> INTEGER = new ElementCodec<>() {
+        @Override
+        public int typeId() {
+            return 1;
+        }
+
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public int encodedSize(Integer item) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer item, ByteBuffer out) {
+            out.putInt(item);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer in, int length) {
+            return in.getInt();
+        }
+    };
+
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int typeId() {
+            return 2;
+        }
+
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public int encodedSize(Long item) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long item, ByteBuffer out) {
+            out.putLong(item);
+        }
+
+        @Override
+        public Long decode(ByteBuffer in, int length) {
+            return in.getLong();
+        }
+    };
+
+    /* UTF-8. Длина считается и байты пишутся прямо в буфер по символам, без промежуточного массива байт.
+       Непарный суррогат, как и в String.getBytes(UTF_8), заменяется на '?', поэтому длина всегда совпадает с телом */
+    ElementCodec<String> STRING = new ElementCodec<>() {
+        @Override
+        public int typeId() {
+            return 3;
+        }
+
+        @Override
+        public int width() {
+            return -1;
+        }
+
+        @Override
+        public int encodedSize(String item) {
+            int length = 0;
+            for (int i = 0, n = item.length(); i < n; i++) {
+                char c = item.charAt(i);
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (!Character.isSurrogate(c)) {
+                    length += 3;
+                } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(item.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length++;
+                }
+            }
+            return length;
+        }
+
+        @Override
+        public void encode(String item, ByteBuffer out) {
+            for (int i = 0, n = item.length(); i < n; i++) {
+                char c = item.charAt(i);
+                if (c < 0x80) {
+                    out.put((byte) c);
+                } else if (c < 0x800) {
+                    out.put((byte) (0xC0 | c >> 6))
+                            .put((byte) (0x80 | c & 0x3F));
+                } else if (!Character.isSurrogate(c)) {
+                    out.put((byte) (0xE0 | c >> 12))
+                            .put((byte) (0x80 | c >> 6 & 0x3F))
+                            .put((byte) (0x80 | c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(item.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, item.charAt(++i));
+                    out.put((byte) (0xF0 | codePoint >> 18))
+                            .put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                            .put((byte) (0x80 | codePoint >> 6 & 0x3F))
+                            .put((byte) (0x80 | codePoint & 0x3F));
+                } else {
+                    out.put((byte) '?');
+                }
+            }
+        }
+
+        @Override
+        public String decode(ByteBuffer in, int length) {
+            String item = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return item;
+        }
+    };
+}
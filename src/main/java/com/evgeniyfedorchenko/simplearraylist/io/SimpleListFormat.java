@@ -0,0 +1,128 @@
+package com.evgeniyfedorchenko.simplearraylist.io;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Версионированный двоичный формат списка.
+ * Заголовок на 12 байт: magic (4), версия (2), тип элементов из {@link ElementCodec#typeId()} (2), количество (4).
+ * Затем элементы: фиксированной ширины - подряд, переменной - каждый с префиксом длины (int).
+ * Чтение и запись идут через буфер на 64 КБ, поэтому весь список в виде байт в памяти не собирается.
+ */
+public final class SimpleListFormat {
+
+    private static final int MAGIC = 0x534C4246;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int CHUNK_SIZE = 1 << 16;
+    /* Сколько элементов выделяется сразу по количеству из заголовка: дальше массив растет по мере чтения,
+       чтобы испорченный или враждебный заголовок не мог запросить гигабайты до проверки данных */
+    private static final int INITIAL_ELEMENTS = 1 << 16;
+
+    private SimpleListFormat() {
+    }
+
+    /**
+     * Записать элементы [0, size) массива. Канал не закрывается.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> void write(Object[] elements, int size, ElementCodec<? super E> codec,
+                                 WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        buffer.putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort((short) codec.typeId())
+                .putInt(size);
+        boolean lengthPrefixed = codec.width() < 0;
+        for (int i = 0; i < size; i++) {
+            E item = (E) elements[i];
+            int length = codec.encodedSize(item);
+            int required = lengthPrefixed ? length + Integer.BYTES : length;
+            if (buffer.remaining() < required) {
+                flush(buffer, channel);
+                if (buffer.capacity() < required) {
+                    buffer = ByteBuffer.allocate(required);
+                }
+            }
+            if (lengthPrefixed) {
+                buffer.putInt(length);
+            }
+            codec.encode(item, buffer);
+        }
+        flush(buffer, channel);
+    }
+
+    private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Прочитать список. Длина массива результата равна количеству из заголовка,
+     * но сверх INITIAL_ELEMENTS массив выделяется не сразу, а растет вдвое по мере чтения элементов.
+     */
+    public static <E> Object[] read(ReadableByteChannel channel, ElementCodec<E> codec) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE).flip();
+        buffer = require(buffer, HEADER_SIZE, channel);
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a simple list stream");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+        short typeId = buffer.getShort();
+        if (typeId != codec.typeId()) {
+            throw new IOException("Stream element type " + typeId + " does not match codec type " + codec.typeId());
+        }
+        int count = buffer.getInt();
+        if (count < 0 || count > GrowthPolicy.MAX_ARRAY_SIZE) {
+            throw new IOException("Corrupted element count " + count);
+        }
+        Object[] elements = new Object[Math.min(count, INITIAL_ELEMENTS)];
+        int width = codec.width();
+        for (int i = 0; i < count; i++) {
+            if (i == elements.length) {
+                elements = Arrays.copyOf(elements, (int) Math.min(count, 2L * elements.length));
+            }
+            int length = width;
+            if (width < 0) {
+                buffer = require(buffer, Integer.BYTES, channel);
+                length = buffer.getInt();
+                if (length < 0) {
+                    throw new IOException("Corrupted element length " + length);
+                }
+            }
+            buffer = require(buffer, length, channel);
+            elements[i] = codec.decode(buffer, length);
+        }
+        return elements;
+    }
+
+    /* Дочитывает канал, пока в буфере не окажется required байт. Буфер в режиме чтения.
+       Длина из потока не проверена, поэтому буфер растет вдвое только когда заполнен прочитанными байтами */
+    private static ByteBuffer require(ByteBuffer buffer, int required, ReadableByteChannel channel) throws IOException {
+        if (buffer.remaining() >= required) {
+            return buffer;
+        }
+        buffer.compact();
+        while (buffer.position() < required) {
+            if (!buffer.hasRemaining()) {
+                buffer = ByteBuffer.allocate((int) Math.min(required, 2L * buffer.capacity())).put(buffer.flip());
+            }
+            if (channel.read(buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.flip();
+    }
+}
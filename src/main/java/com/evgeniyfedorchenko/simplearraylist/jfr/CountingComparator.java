@@ -0,0 +1,30 @@
+package com.evgeniyfedorchenko.simplearraylist.jfr;
+
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Компаратор, который считает свои вызовы. Используется, только когда включено событие SortEvent.
+ * LongAdder - потому что parallelSort сравнивает из нескольких потоков.
+ */
+public final class CountingComparator<T> implements Comparator<T> {
+
+    private final Comparator<? super T> order;
+    private final LongAdder comparisons = new LongAdder();
+
+    /* null означает естественный порядок */
+    @SuppressWarnings("unchecked")
+    public CountingComparator(Comparator<? super T> order) {
+        this.order = order != null ? order : (Comparator<? super T>) Comparator.naturalOrder();
+    }
+
+    @Override
+    public int compare(T first, T second) {
+        comparisons.increment();
+        return order.compare(first, second);
+    }
+
+    public long comparisons() {
+        return comparisons.sum();
+    }
+}
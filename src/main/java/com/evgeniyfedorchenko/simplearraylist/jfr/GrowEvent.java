@@ -0,0 +1,33 @@
+package com.evgeniyfedorchenko.simplearraylist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Перевыделение массива списка. Записывается, только если заняло больше порога (по умолчанию 1 мс).
+ */
+@Name("SimpleList.Grow")
+@Label("SimpleList Grow")
+@Category("SimpleList")
+@Description("Reallocation of the list backing array")
+@Threshold("1 ms")
+public class GrowEvent extends Event {
+
+    @Label("Old Capacity")
+    public int oldCapacity;
+
+    @Label("New Capacity")
+    public int newCapacity;
+
+    @Label("Copied Elements")
+    public int copiedElements;
+
+    @Label("Allocated")
+    @DataAmount
+    public long allocatedBytes;
+}
@@ -0,0 +1,25 @@
+package com.evgeniyfedorchenko.simplearraylist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Сдвиг хвоста массива при вставке или удалении в середине. Записывается, только если занял больше порога (по умолчанию 1 мс).
+ */
+@Name("SimpleList.Shift")
+@Label("SimpleList Shift")
+@Category("SimpleList")
+@Description("Shift of the list tail on insertion or removal")
+@Threshold("1 ms")
+public class ShiftEvent extends Event {
+
+    @Label("Index")
+    public int index;
+
+    @Label("Moved Elements")
+    public int movedElements;
+}
@@ -0,0 +1,28 @@
+package com.evgeniyfedorchenko.simplearraylist.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Сортировка списка. Записывается, только если заняла больше порога (по умолчанию 10 мс).
+ */
+@Name("SimpleList.Sort")
+@Label("SimpleList Sort")
+@Category("SimpleList")
+@Description("Sorting of the list")
+@Threshold("10 ms")
+public class SortEvent extends Event {
+
+    @Label("Size")
+    public int size;
+
+    @Label("Comparisons")
+    public long comparisons;
+
+    @Label("Parallel")
+    public boolean parallel;
+}
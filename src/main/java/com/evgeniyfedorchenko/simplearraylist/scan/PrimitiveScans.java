@@ -0,0 +1,61 @@
+package com.evgeniyfedorchenko.simplearraylist.scan;
+
+import java.util.Optional;
+
+/**
+ * Линейные проходы по диапазону [0, to) (для indexOf - [from, to)) массивов int[] и long[].
+ * Есть скалярная реализация и реализация на jdk.incubator.vector, которая сравнивает
+ * и складывает сразу столько элементов, сколько помещается в векторный регистр (8 int для AVX2, 16 для AVX-512).
+ * min и max пустого диапазона возвращают нейтральный элемент (MAX_VALUE и MIN_VALUE), проверка на пустоту - у вызывающего.
+ */
+public interface PrimitiveScans {
+
+    int indexOf(int[] array, int from, int to, int value);
+
+    int lastIndexOf(int[] array, int to, int value);
+
+    int count(int[] array, int to, int value);
+
+    int min(int[] array, int to);
+
+    int max(int[] array, int to);
+
+    /**
+     * Сумма в long, поэтому не переполняется.
+     */
+    long sum(int[] array, int to);
+
+    int indexOf(long[] array, int from, int to, long value);
+
+    int lastIndexOf(long[] array, int to, long value);
+
+    int count(long[] array, int to, long value);
+
+    long min(long[] array, int to);
+
+    long max(long[] array, int to);
+
+    long sum(long[] array, int to);
+
+    /**
+     * Скалярная реализация, доступна всегда.
+     */
+    static PrimitiveScans scalar() {
+        return ScalarScans.INSTANCE;
+    }
+
+    /**
+     * Векторная реализация или пусто, если она не собрана (профиль vector) или JVM запущена без --add-modules jdk.incubator.vector.
+     */
+    static Optional<PrimitiveScans> vectorized() {
+        return Optional.ofNullable(ScanSelector.VECTORIZED);
+    }
+
+    /**
+     * Векторная реализация, если она доступна и не отключена свойством -Dsimplearraylist.vectorize=false,
+     * иначе скалярная.
+     */
+    static PrimitiveScans best() {
+        return ScanSelector.BEST;
+    }
+}
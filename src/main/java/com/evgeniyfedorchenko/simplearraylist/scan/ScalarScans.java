@@ -0,0 +1,125 @@
+package com.evgeniyfedorchenko.simplearraylist.scan;
+
+final class ScalarScans implements PrimitiveScans {
+
+    static final ScalarScans INSTANCE = new ScalarScans();
+
+    private ScalarScans() {
+    }
+
+    @Override
+    public int indexOf(int[] array, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(int[] array, int to, int value) {
+        for (int i = to - 1; i >= 0; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(int[] array, int to, int value) {
+        int count = 0;
+        for (int i = 0; i < to; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int min(int[] array, int to) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < to; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public int max(int[] array, int to) {
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < to; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long sum(int[] array, int to) {
+        long sum = 0;
+        for (int i = 0; i < to; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int indexOf(long[] array, int from, int to, long value) {
+        for (int i = from; i < to; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(long[] array, int to, long value) {
+        for (int i = to - 1; i >= 0; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(long[] array, int to, long value) {
+        int count = 0;
+        for (int i = 0; i < to; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long min(long[] array, int to) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < to; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public long max(long[] array, int to) {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < to; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public long sum(long[] array, int to) {
+        long sum = 0;
+        for (int i = 0; i < to; i++) {
+            sum += array[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,28 @@
+package com.evgeniyfedorchenko.simplearraylist.scan;
+
+/* Выбор реализации один раз при загрузке класса */
+final class ScanSelector {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_SCANS = "com.evgeniyfedorchenko.simplearraylist.scan.VectorScans";
+
+    static final PrimitiveScans VECTORIZED = loadVectorized();
+    static final PrimitiveScans BEST = VECTORIZED != null && Boolean.parseBoolean(
+            System.getProperty("simplearraylist.vectorize", "true")) ? VECTORIZED : ScalarScans.INSTANCE;
+
+    private ScanSelector() {
+    }
+
+    /* VectorScans загружается только по имени: без модуля в boot-слое ссылка на него не должна линковаться,
+       а без профиля vector класса нет вовсе */
+    private static PrimitiveScans loadVectorized() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (PrimitiveScans) Class.forName(VECTOR_SCANS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.evgeniyfedorchenko.simplearraylist.sorting;
+
+import java.util.Comparator;
+
+/**
+ * Интроспективная сортировка диапазона массива.
+ * Быстрая сортировка с медианой из трех и разбиением Хоара. На глубине рекурсии больше 2*log2(n)
+ * переключается на пирамидальную сортировку, поэтому худший случай O(n log n).
+ * Рекурсия идет только в меньшую половину, поэтому глубина стека не больше log2(n).
+ * Короткие диапазоны досортировываются вставками.
+ * Сортировка нестабильная.
+ */
+public final class IntroSort {
+
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private IntroSort() {
+    }
+
+    /**
+     * Отсортировать элементы a[from..to) компаратором.
+     * Если comparator равен null, элементы сравниваются по естественному порядку (Comparable).
+     */
+    public static <T> void sort(Object[] a, int from, int to, Comparator<? super T> comparator) {
+        checkRange(a.length, from, to);
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(to - from, 1)));
+        if (comparator == null) {
+            introSort(a, from, to, depthLimit);
+        } else {
+            introSort(a, from, to, depthLimit, comparator);
+        }
+    }
+
+    static void checkRange(int length, int from, int to) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + length);
+        }
+    }
+
+    /* ---------------- Сортировка с компаратором ---------------- */
+
+    private static <T> void introSort(Object[] a, int low, int high, int depthLimit, Comparator<? super T> c) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(a, low, high, c);
+                return;
+            }
+            int split = partition(a, low, high, c);
+            if (split - low < high - split) {
+                introSort(a, low, split, depthLimit, c);
+                low = split;
+            } else {
+                introSort(a, split, high, depthLimit, c);
+                high = split;
+            }
+        }
+        insertionSort(a, low, high, c);
+    }
+
+    /* Возвращает split: все элементы [low, split) не больше опорного, все [split, high) не меньше.
+       Обе части непустые. */
+    @SuppressWarnings("unchecked")
+    static <T> int partition(Object[] a, int low, int high, Comparator<? super T> c) {
+        int mid = (low + high) >>> 1;
+        int last = high - 1;
+        if (c.compare((T) a[mid], (T) a[low]) < 0) {
+            swap(a, mid, low);
+        }
+        if (c.compare((T) a[last], (T) a[mid]) < 0) {
+            swap(a, last, mid);
+            if (c.compare((T) a[mid], (T) a[low]) < 0) {
+                swap(a, mid, low);
+            }
+        }
+        T pivot = (T) a[mid];
+        int i = low - 1;
+        int j = high;
+        while (true) {
+            do {
+                i++;
+            } while (c.compare((T) a[i], pivot) < 0);
+            do {
+                j--;
+            } while (c.compare((T) a[j], pivot) > 0);
+            if (i >= j) {
+                return j + 1;
+            }
+            swap(a, i, j);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> void insertionSort(Object[] a, int low, int high, Comparator<? super T> c) {
+        for (int i = low + 1; i < high; i++) {
+            T current = (T) a[i];
+            int j = i - 1;
+            while (j >= low && c.compare((T) a[j], current) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = current;
+        }
+    }
+
+    static <T> void heapSort(Object[] a, int low, int high, Comparator<? super T> c) {
+        int n = high - low;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(a, low, i, n, c);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(a, low, low + end);
+            siftDown(a, low, 0, end, c);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> void siftDown(Object[] a, int base, int node, int n, Comparator<? super T> c) {
+        T value = (T) a[base + node];
+        int child;
+        while ((child = 2 * node + 1) < n) {
+            if (child + 1 < n && c.compare((T) a[base + child], (T) a[base + child + 1]) < 0) {
+                child++;
+            }
+            if (c.compare(value, (T) a[base + child]) >= 0) {
+                break;
+            }
+            a[base + node] = a[base + child];
+            node = child;
+        }
+        a[base + node] = value;
+    }
+
+    /* ------- Естественный порядок: те же алгоритмы без вызова компаратора ------- */
+
+    private static void introSort(Object[] a, int low, int high, int depthLimit) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(a, low, high);
+                return;
+            }
+            int split = partition(a, low, high);
+            if (split - low < high - split) {
+                introSort(a, low, split, depthLimit);
+                low = split;
+            } else {
+                introSort(a, split, high, depthLimit);
+                high = split;
+            }
+        }
+        insertionSort(a, low, high);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int partition(Object[] a, int low, int high) {
+        int mid = (low + high) >>> 1;
+        int last = high - 1;
+        if (((Comparable) a[mid]).compareTo(a[low]) < 0) {
+            swap(a, mid, low);
+        }
+        if (((Comparable) a[last]).compareTo(a[mid]) < 0) {
+            swap(a, last, mid);
+            if (((Comparable) a[mid]).compareTo(a[low]) < 0) {
+                swap(a, mid, low);
+            }
+        }
+        Comparable pivot = (Comparable) a[mid];
+        int i = low - 1;
+        int j = high;
+        while (true) {
+            do {
+                i++;
+            } while (pivot.compareTo(a[i]) > 0);
+            do {
+                j--;
+            } while (pivot.compareTo(a[j]) < 0);
+            if (i >= j) {
+                return j + 1;
+            }
+            swap(a, i, j);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void insertionSort(Object[] a, int low, int high) {
+        for (int i = low + 1; i < high; i++) {
+            Comparable current = (Comparable) a[i];
+            int j = i - 1;
+            while (j >= low && current.compareTo(a[j]) < 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = current;
+        }
+    }
+
+    private static void heapSort(Object[] a, int low, int high) {
+        int n = high - low;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(a, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(a, low, low + end);
+            siftDown(a, low, 0, end);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void siftDown(Object[] a, int base, int node, int n) {
+        Comparable value = (Comparable) a[base + node];
+        int child;
+        while ((child = 2 * node + 1) < n) {
+            if (child + 1 < n && ((Comparable) a[base + child]).compareTo(a[base + child + 1]) < 0) {
+                child++;
+            }
+            if (value.compareTo(a[base + child]) >= 0) {
+                break;
+            }
+            a[base + node] = a[base + child];
+            node = child;
+        }
+        a[base + node] = value;
+    }
+
+    static void swap(Object[] a, int i, int j) {
+        Object temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+}
@@ -0,0 +1,494 @@
+package com.evgeniyfedorchenko.simplearraylist.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Стабильная адаптивная сортировка слиянием в духе TimSort.
+ * Массив разбивается на естественные серии (убывающие разворачиваются), короткие серии добиваются
+ * бинарными вставками до minRun. Серии сливаются со стека так, чтобы длины сливаемых были близки.
+ * Когда одна серия много раз подряд выигрывает, слияние переходит в режим галопа: экспоненциальный
+ * поиск и копирование целых блоков через System.arraycopy.
+ * На уже упорядоченных и почти упорядоченных данных работает за время, близкое к O(n), в худшем случае - O(n log n).
+ * Вспомогательный массив берется из {@link Buffer}, который список держит между вызовами.
+ */
+public final class MergeSort {
+
+    /* Диапазоны короче сортируются бинарными вставками без слияний */
+    private static final int MIN_MERGE = 32;
+    private static final int MIN_GALLOP = 7;
+    /* При инвариантах стека длины серий растут не медленнее чисел Фибоначчи: 49 серий хватает на любой массив */
+    private static final int MAX_RUNS = 49;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> NATURAL_ORDER = (first, second) -> ((Comparable) first).compareTo(second);
+
+    private final Object[] a;
+    private final Comparator<Object> comparator;
+    private final Buffer buffer;
+    private int minGallop = MIN_GALLOP;
+    private int runCount;
+
+    private MergeSort(Object[] a, Comparator<Object> comparator, Buffer buffer) {
+        this.a = a;
+        this.comparator = comparator;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Переиспользуемый вспомогательный массив для слияний и стек серий.
+     * Растет до половины самой большой сортировки и не уменьшается. Не потокобезопасен.
+     */
+    public static final class Buffer {
+
+        private Object[] scratch = new Object[0];
+        private final int[] runBase = new int[MAX_RUNS];
+        private final int[] runLength = new int[MAX_RUNS];
+
+        private Object[] scratch(int length) {
+            if (scratch.length < length) {
+                scratch = new Object[Math.max(length, scratch.length + (scratch.length >> 1))];
+            }
+            return scratch;
+        }
+
+        /* Ссылки на элементы не должны переживать сортировку. Слияние занимает не больше половины диапазона */
+        private void release(int length) {
+            Arrays.fill(scratch, 0, Math.min(scratch.length, (length >>> 1) + 1), null);
+        }
+    }
+
+    /**
+     * Стабильно отсортировать элементы a[from..to) компаратором.
+     * Если comparator равен null, элементы сравниваются по естественному порядку (Comparable).
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sort(Object[] a, int from, int to, Comparator<? super T> comparator, Buffer buffer) {
+        IntroSort.checkRange(a.length, from, to);
+        if (to - from < 2) {
+            return;
+        }
+        Comparator<Object> order = comparator == null ? NATURAL_ORDER : (Comparator<Object>) comparator;
+        try {
+            new MergeSort(a, order, buffer).sort(from, to);
+        } finally {
+            buffer.release(to - from);
+        }
+    }
+
+    private void sort(int low, int high) {
+        int remaining = high - low;
+        if (remaining < MIN_MERGE) {
+            binaryInsertionSort(low, high, low + countRunAndMakeAscending(low, high));
+            return;
+        }
+        int minRun = minRunLength(remaining);
+        do {
+            int runLength = countRunAndMakeAscending(low, high);
+            if (runLength < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(low, low + forced, low + runLength);
+                runLength = forced;
+            }
+            pushRun(low, runLength);
+            mergeCollapse();
+            low += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+        mergeForceCollapse();
+    }
+
+    /* Длина серии, начинающейся с low. Строго убывающая серия разворачивается, чтобы сохранить стабильность */
+    private int countRunAndMakeAscending(int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+        if (comparator.compare(a[runHigh++], a[low]) < 0) {
+            while (runHigh < high && comparator.compare(a[runHigh], a[runHigh - 1]) < 0) {
+                runHigh++;
+            }
+            reverse(low, runHigh);
+        } else {
+            while (runHigh < high && comparator.compare(a[runHigh], a[runHigh - 1]) >= 0) {
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+
+    private void reverse(int low, int high) {
+        for (high--; low < high; low++, high--) {
+            Object item = a[low];
+            a[low] = a[high];
+            a[high] = item;
+        }
+    }
+
+    /* a[low..start) уже упорядочен, остальные элементы вставляются за ним. Равный элемент встает после равных */
+    private void binaryInsertionSort(int low, int high, int start) {
+        if (start == low) {
+            start++;
+        }
+        for (; start < high; start++) {
+            Object pivot = a[start];
+            int left = low;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, a[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(a, left, a, left + 1, start - left);
+            a[left] = pivot;
+        }
+    }
+
+    /* Минимальная длина серии из [MIN_MERGE / 2, MIN_MERGE]: n / minRun - степень двойки или чуть меньше нее */
+    private static int minRunLength(int n) {
+        int lostBits = 0;
+        while (n >= MIN_MERGE) {
+            lostBits |= n & 1;
+            n >>= 1;
+        }
+        return n + lostBits;
+    }
+
+    private void pushRun(int base, int length) {
+        buffer.runBase[runCount] = base;
+        buffer.runLength[runCount] = length;
+        runCount++;
+    }
+
+    /* Поддерживает на стеке len[i - 2] > len[i - 1] + len[i] и len[i - 1] > len[i] для трех верхних серий
+       и для серии под ними */
+    private void mergeCollapse() {
+        int[] length = buffer.runLength;
+        while (runCount > 1) {
+            int n = runCount - 2;
+            if (n > 0 && length[n - 1] <= length[n] + length[n + 1]
+                    || n > 1 && length[n - 2] <= length[n] + length[n - 1]) {
+                if (length[n - 1] < length[n + 1]) {
+                    n--;
+                }
+            } else if (length[n] > length[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    private void mergeForceCollapse() {
+        int[] length = buffer.runLength;
+        while (runCount > 1) {
+            int n = runCount - 2;
+            if (n > 0 && length[n - 1] < length[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /* Слить серии i и i + 1 со стека */
+    private void mergeAt(int i) {
+        int[] runBase = buffer.runBase;
+        int[] runLength = buffer.runLength;
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+        runLength[i] = length1 + length2;
+        if (i == runCount - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        runCount--;
+
+        // начало первой серии, которое меньше всей второй, и конец второй, который больше всей первой, уже на месте
+        int skipped = gallopRight(a[base2], a, base1, length1, 0);
+        base1 += skipped;
+        length1 -= skipped;
+        if (length1 == 0) {
+            return;
+        }
+        length2 = gallopLeft(a[base1 + length1 - 1], a, base2, length2, length2 - 1);
+        if (length2 == 0) {
+            return;
+        }
+        if (length1 <= length2) {
+            mergeLow(base1, length1, base2, length2);
+        } else {
+            mergeHigh(base1, length1, base2, length2);
+        }
+    }
+
+    /* Позиция самого левого элемента в array[base..base + length), не меньшего key. Поиск начинается от hint */
+    private int gallopLeft(Object key, Object[] array, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (comparator.compare(key, array[base + hint]) > 0) {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, array[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, array[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int previous = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - previous;
+        }
+        // ответ в (lastOffset, offset]
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, array[base + mid]) > 0) {
+                lastOffset = mid + 1;
+            } else {
+                offset = mid;
+            }
+        }
+        return offset;
+    }
+
+    /* Позиция за самым правым элементом в array[base..base + length), не большим key. Поиск начинается от hint */
+    private int gallopRight(Object key, Object[] array, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (comparator.compare(key, array[base + hint]) < 0) {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, array[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int previous = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - previous;
+        } else {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, array[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        }
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, array[base + mid]) < 0) {
+                offset = mid;
+            } else {
+                lastOffset = mid + 1;
+            }
+        }
+        return offset;
+    }
+
+    /* Слияние слева направо: первая серия короче и копируется во вспомогательный массив.
+       Первый элемент второй серии меньше всей первой, последний элемент первой больше всей второй */
+    private void mergeLow(int base1, int length1, int base2, int length2) {
+        Object[] scratch = buffer.scratch(length1);
+        System.arraycopy(a, base1, scratch, 0, length1);
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int dest = base1;
+
+        a[dest++] = a[cursor2++];
+        if (--length2 == 0) {
+            System.arraycopy(scratch, cursor1, a, dest, length1);
+            return;
+        }
+        if (length1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, length2);
+            a[dest + length2] = scratch[cursor1];
+            return;
+        }
+
+        int gallopAfter = minGallop;
+        outer:
+        while (true) {
+            int wins1 = 0;
+            int wins2 = 0;
+            // поэлементное слияние, пока одна из серий не выиграет gallopAfter раз подряд
+            do {
+                if (comparator.compare(a[cursor2], scratch[cursor1]) < 0) {
+                    a[dest++] = a[cursor2++];
+                    wins2++;
+                    wins1 = 0;
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+                } else {
+                    a[dest++] = scratch[cursor1++];
+                    wins1++;
+                    wins2 = 0;
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((wins1 | wins2) < gallopAfter);
+
+            // галоп: блоки целиком, пока они длиннее MIN_GALLOP
+            do {
+                wins1 = gallopRight(a[cursor2], scratch, cursor1, length1, 0);
+                if (wins1 != 0) {
+                    System.arraycopy(scratch, cursor1, a, dest, wins1);
+                    dest += wins1;
+                    cursor1 += wins1;
+                    length1 -= wins1;
+                    if (length1 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest++] = a[cursor2++];
+                if (--length2 == 0) {
+                    break outer;
+                }
+                wins2 = gallopLeft(scratch[cursor1], a, cursor2, length2, 0);
+                if (wins2 != 0) {
+                    System.arraycopy(a, cursor2, a, dest, wins2);
+                    dest += wins2;
+                    cursor2 += wins2;
+                    length2 -= wins2;
+                    if (length2 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest++] = scratch[cursor1++];
+                if (--length1 == 1) {
+                    break outer;
+                }
+                gallopAfter--;
+            } while (wins1 >= MIN_GALLOP | wins2 >= MIN_GALLOP);
+            // галоп перестал окупаться: в следующий раз входить в него позже
+            gallopAfter = Math.max(gallopAfter, 0) + 2;
+        }
+        minGallop = Math.max(gallopAfter, 1);
+
+        if (length1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, length2);
+            a[dest + length2] = scratch[cursor1];
+        } else if (length1 == 0) {
+            throw new IllegalArgumentException("Comparator violates its general contract");
+        } else {
+            System.arraycopy(scratch, cursor1, a, dest, length1);
+        }
+    }
+
+    /* Слияние справа налево: вторая серия короче и копируется во вспомогательный массив */
+    private void mergeHigh(int base1, int length1, int base2, int length2) {
+        Object[] scratch = buffer.scratch(length2);
+        System.arraycopy(a, base2, scratch, 0, length2);
+        int cursor1 = base1 + length1 - 1;
+        int cursor2 = length2 - 1;
+        int dest = base2 + length2 - 1;
+
+        a[dest--] = a[cursor1--];
+        if (--length1 == 0) {
+            System.arraycopy(scratch, 0, a, dest - (length2 - 1), length2);
+            return;
+        }
+        if (length2 == 1) {
+            dest -= length1;
+            cursor1 -= length1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+            a[dest] = scratch[cursor2];
+            return;
+        }
+
+        int gallopAfter = minGallop;
+        outer:
+        while (true) {
+            int wins1 = 0;
+            int wins2 = 0;
+            do {
+                if (comparator.compare(scratch[cursor2], a[cursor1]) < 0) {
+                    a[dest--] = a[cursor1--];
+                    wins1++;
+                    wins2 = 0;
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                } else {
+                    a[dest--] = scratch[cursor2--];
+                    wins2++;
+                    wins1 = 0;
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((wins1 | wins2) < gallopAfter);
+
+            do {
+                wins1 = length1 - gallopRight(scratch[cursor2], a, base1, length1, length1 - 1);
+                if (wins1 != 0) {
+                    dest -= wins1;
+                    cursor1 -= wins1;
+                    length1 -= wins1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, wins1);
+                    if (length1 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest--] = scratch[cursor2--];
+                if (--length2 == 1) {
+                    break outer;
+                }
+                wins2 = length2 - gallopLeft(a[cursor1], scratch, 0, length2, length2 - 1);
+                if (wins2 != 0) {
+                    dest -= wins2;
+                    cursor2 -= wins2;
+                    length2 -= wins2;
+                    System.arraycopy(scratch, cursor2 + 1, a, dest + 1, wins2);
+                    if (length2 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest--] = a[cursor1--];
+                if (--length1 == 0) {
+                    break outer;
+                }
+                gallopAfter--;
+            } while (wins1 >= MIN_GALLOP | wins2 >= MIN_GALLOP);
+            gallopAfter = Math.max(gallopAfter, 0) + 2;
+        }
+        minGallop = Math.max(gallopAfter, 1);
+
+        if (length2 == 1) {
+            dest -= length1;
+            cursor1 -= length1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+            a[dest] = scratch[cursor2];
+        } else if (length2 == 0) {
+            throw new IllegalArgumentException("Comparator violates its general contract");
+        } else {
+            System.arraycopy(scratch, 0, a, dest - (length2 - 1), length2);
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.evgeniyfedorchenko.simplearraylist.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Параллельная сортировка диапазона массива на ForkJoinPool.
+ * Диапазон делится на четверти, которые сортируются параллельно. Затем пары четвертей сливаются
+ * во вспомогательный массив, а половины из него - обратно в исходный.
+ * Слияние тоже параллельное: больший отрезок делится пополам, точка деления в меньшем ищется бинарным поиском.
+ * Диапазоны не длиннее threshold сортируются последовательно через {@link IntroSort}.
+ * Сортировка нестабильная.
+ * Для int[] и long[] та же схема, но без упаковки: части сортируются Arrays.sort, слияние идет по значениям.
+ * В отличие от Arrays.parallelSort, которая делит работу по параллелизму общего пула,
+ * глубина деления здесь зависит только от threshold, а параллелизм - от переданного пула.
+ */
+public final class ParallelSort {
+
+    /**
+     * Порог по умолчанию, ниже которого параллелить невыгодно.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private ParallelSort() {
+    }
+
+    /**
+     * Отсортировать элементы a[from..to) компаратором в пуле pool.
+     * Если comparator равен null, элементы сравниваются по естественному порядку (Comparable).
+     */
+    public static <T> void sort(Object[] a, int from, int to, Comparator<? super T> comparator,
+                                ForkJoinPool pool, int threshold) {
+        IntroSort.checkRange(a.length, from, to);
+        if (threshold < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (to - from <= threshold || pool.getParallelism() == 1) {
+            IntroSort.sort(a, from, to, comparator);
+            return;
+        }
+        Object[] workspace = new Object[to - from];
+        pool.invoke(new Sorter<>(a, workspace, from, to, from, comparator, threshold));
+    }
+
+    /**
+     * Отсортировать a[from..to) по возрастанию в пуле pool.
+     */
+    public static void sort(int[] a, int from, int to, ForkJoinPool pool, int threshold) {
+        IntroSort.checkRange(a.length, from, to);
+        if (threshold < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (to - from <= threshold || pool.getParallelism() == 1) {
+            Arrays.sort(a, from, to);
+            return;
+        }
+        int[] workspace = new int[to - from];
+        pool.invoke(new IntSorter(a, workspace, from, to, from, threshold));
+    }
+
+    /**
+     * Отсортировать a[from..to) по возрастанию в пуле pool.
+     */
+    public static void sort(long[] a, int from, int to, ForkJoinPool pool, int threshold) {
+        IntroSort.checkRange(a.length, from, to);
+        if (threshold < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (to - from <= threshold || pool.getParallelism() == 1) {
+            Arrays.sort(a, from, to);
+            return;
+        }
+        long[] workspace = new long[to - from];
+        pool.invoke(new LongSorter(a, workspace, from, to, from, threshold));
+    }
+
+    /* Сортирует a[low..high), результат остается в a.
+       workspace[low - base..high - base) используется как буфер для слияния */
+    private static final class Sorter<T> extends RecursiveAction {
+
+        private final Object[] a;
+        private final Object[] workspace;
+        private final int low;
+        private final int high;
+        private final int base;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+
+        Sorter(Object[] a, Object[] workspace, int low, int high, int base,
+               Comparator<? super T> comparator, int threshold) {
+            this.a = a;
+            this.workspace = workspace;
+            this.low = low;
+            this.high = high;
+            this.base = base;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int n = high - low;
+            if (n <= threshold) {
+                IntroSort.sort(a, low, high, comparator);
+                return;
+            }
+            int q1 = low + n / 4;
+            int q2 = low + n / 2;
+            int q3 = q2 + n / 4;
+            invokeAll(
+                    new Sorter<>(a, workspace, low, q1, base, comparator, threshold),
+                    new Sorter<>(a, workspace, q1, q2, base, comparator, threshold),
+                    new Sorter<>(a, workspace, q2, q3, base, comparator, threshold),
+                    new Sorter<>(a, workspace, q3, high, base, comparator, threshold));
+
+            Comparator<? super T> order = orderOf(comparator);
+            invokeAll(
+                    new Merger<>(a, workspace, low, q1, q1, q2, low - base, order, threshold),
+                    new Merger<>(a, workspace, q2, q3, q3, high, q2 - base, order, threshold));
+            new Merger<>(workspace, a, low - base, q2 - base, q2 - base, high - base, low, order, threshold)
+                    .invoke();
+        }
+    }
+
+    /* Сливает отсортированные src[low1..high1) и src[low2..high2) в dst, начиная с позиции dstLow */
+    private static final class Merger<T> extends RecursiveAction {
+
+        private final Object[] src;
+        private final Object[] dst;
+        private final int low1;
+        private final int high1;
+        private final int low2;
+        private final int high2;
+        private final int dstLow;
+        private final Comparator<? super T> comparator;
+        private final int threshold;
+
+        Merger(Object[] src, Object[] dst, int low1, int high1, int low2, int high2, int dstLow,
+               Comparator<? super T> comparator, int threshold) {
+            this.src = src;
+            this.dst = dst;
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.dstLow = dstLow;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = high1 - low1;
+            int length2 = high2 - low2;
+            // из двух элементов больший отрезок не делится на две непустые части
+            if (length1 + length2 <= Math.max(threshold, 2)) {
+                merge();
+                return;
+            }
+            if (length1 >= length2) {
+                int mid1 = (low1 + high1) >>> 1;
+                int mid2 = lowerBound(src, low2, high2, src[mid1]);
+                split(mid1, mid2);
+            } else {
+                int mid2 = (low2 + high2) >>> 1;
+                int mid1 = lowerBound(src, low1, high1, src[mid2]);
+                split(mid1, mid2);
+            }
+        }
+
+        private void split(int mid1, int mid2) {
+            int rightDst = dstLow + (mid1 - low1) + (mid2 - low2);
+            invokeAll(
+                    new Merger<>(src, dst, low1, mid1, low2, mid2, dstLow, comparator, threshold),
+                    new Merger<>(src, dst, mid1, high1, mid2, high2, rightDst, comparator, threshold));
+        }
+
+        @SuppressWarnings("unchecked")
+        private int lowerBound(Object[] array, int low, int high, Object key) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparator.compare((T) array[mid], (T) key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void merge() {
+            int i = low1;
+            int j = low2;
+            int k = dstLow;
+            while (i < high1 && j < high2) {
+                if (comparator.compare((T) src[j], (T) src[i]) < 0) {
+                    dst[k++] = src[j++];
+                } else {
+                    dst[k++] = src[i++];
+                }
+            }
+            System.arraycopy(src, i, dst, k, high1 - i);
+            System.arraycopy(src, j, dst, k + high1 - i, high2 - j);
+        }
+    }
+
+    /* IntSorter и IntMerger - Sorter и Merger для int[] */
+    private static final class IntSorter extends RecursiveAction {
+
+        private final int[] a;
+        private final int[] workspace;
+        private final int low;
+        private final int high;
+        private final int base;
+        private final int threshold;
+
+        IntSorter(int[] a, int[] workspace, int low, int high, int base, int threshold) {
+            this.a = a;
+            this.workspace = workspace;
+            this.low = low;
+            this.high = high;
+            this.base = base;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int n = high - low;
+            if (n <= threshold) {
+                Arrays.sort(a, low, high);
+                return;
+            }
+            int q1 = low + n / 4;
+            int q2 = low + n / 2;
+            int q3 = q2 + n / 4;
+            invokeAll(
+                    new IntSorter(a, workspace, low, q1, base, threshold),
+                    new IntSorter(a, workspace, q1, q2, base, threshold),
+                    new IntSorter(a, workspace, q2, q3, base, threshold),
+                    new IntSorter(a, workspace, q3, high, base, threshold));
+            invokeAll(
+                    new IntMerger(a, workspace, low, q1, q1, q2, low - base, threshold),
+                    new IntMerger(a, workspace, q2, q3, q3, high, q2 - base, threshold));
+            new IntMerger(workspace, a, low - base, q2 - base, q2 - base, high - base, low, threshold).invoke();
+        }
+    }
+
+    private static final class IntMerger extends RecursiveAction {
+
+        private final int[] src;
+        private final int[] dst;
+        private final int low1;
+        private final int high1;
+        private final int low2;
+        private final int high2;
+        private final int dstLow;
+        private final int threshold;
+
+        IntMerger(int[] src, int[] dst, int low1, int high1, int low2, int high2, int dstLow, int threshold) {
+            this.src = src;
+            this.dst = dst;
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.dstLow = dstLow;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = high1 - low1;
+            int length2 = high2 - low2;
+            if (length1 + length2 <= Math.max(threshold, 2)) {
+                merge();
+                return;
+            }
+            int mid1;
+            int mid2;
+            if (length1 >= length2) {
+                mid1 = (low1 + high1) >>> 1;
+                mid2 = lowerBound(low2, high2, src[mid1]);
+            } else {
+                mid2 = (low2 + high2) >>> 1;
+                mid1 = lowerBound(low1, high1, src[mid2]);
+            }
+            int rightDst = dstLow + (mid1 - low1) + (mid2 - low2);
+            invokeAll(
+                    new IntMerger(src, dst, low1, mid1, low2, mid2, dstLow, threshold),
+                    new IntMerger(src, dst, mid1, high1, mid2, high2, rightDst, threshold));
+        }
+
+        private int lowerBound(int low, int high, int key) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (src[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void merge() {
+            int i = low1;
+            int j = low2;
+            int k = dstLow;
+            while (i < high1 && j < high2) {
+                dst[k++] = src[j] < src[i] ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, high1 - i);
+            System.arraycopy(src, j, dst, k + high1 - i, high2 - j);
+        }
+    }
+
+    /* LongSorter и LongMerger - Sorter и Merger для long[] */
+    private static final class LongSorter extends RecursiveAction {
+
+        private final long[] a;
+        private final long[] workspace;
+        private final int low;
+        private final int high;
+        private final int base;
+        private final int threshold;
+
+        LongSorter(long[] a, long[] workspace, int low, int high, int base, int threshold) {
+            this.a = a;
+            this.workspace = workspace;
+            this.low = low;
+            this.high = high;
+            this.base = base;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int n = high - low;
+            if (n <= threshold) {
+                Arrays.sort(a, low, high);
+                return;
+            }
+            int q1 = low + n / 4;
+            int q2 = low + n / 2;
+            int q3 = q2 + n / 4;
+            invokeAll(
+                    new LongSorter(a, workspace, low, q1, base, threshold),
+                    new LongSorter(a, workspace, q1, q2, base, threshold),
+                    new LongSorter(a, workspace, q2, q3, base, threshold),
+                    new LongSorter(a, workspace, q3, high, base, threshold));
+            invokeAll(
+                    new LongMerger(a, workspace, low, q1, q1, q2, low - base, threshold),
+                    new LongMerger(a, workspace, q2, q3, q3, high, q2 - base, threshold));
+            new LongMerger(workspace, a, low - base, q2 - base, q2 - base, high - base, low, threshold).invoke();
+        }
+    }
+
+    private static final class LongMerger extends RecursiveAction {
+
+        private final long[] src;
+        private final long[] dst;
+        private final int low1;
+        private final int high1;
+        private final int low2;
+        private final int high2;
+        private final int dstLow;
+        private final int threshold;
+
+        LongMerger(long[] src, long[] dst, int low1, int high1, int low2, int high2, int dstLow, int threshold) {
+            this.src = src;
+            this.dst = dst;
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.dstLow = dstLow;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = high1 - low1;
+            int length2 = high2 - low2;
+            if (length1 + length2 <= Math.max(threshold, 2)) {
+                merge();
+                return;
+            }
+            int mid1;
+            int mid2;
+            if (length1 >= length2) {
+                mid1 = (low1 + high1) >>> 1;
+                mid2 = lowerBound(low2, high2, src[mid1]);
+            } else {
+                mid2 = (low2 + high2) >>> 1;
+                mid1 = lowerBound(low1, high1, src[mid2]);
+            }
+            int rightDst = dstLow + (mid1 - low1) + (mid2 - low2);
+            invokeAll(
+                    new LongMerger(src, dst, low1, mid1, low2, mid2, dstLow, threshold),
+                    new LongMerger(src, dst, mid1, high1, mid2, high2, rightDst, threshold));
+        }
+
+        private int lowerBound(int low, int high, long key) {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (src[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private void merge() {
+            int i = low1;
+            int j = low2;
+            int k = dstLow;
+            while (i < high1 && j < high2) {
+                dst[k++] = src[j] < src[i] ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, high1 - i);
+            System.arraycopy(src, j, dst, k + high1 - i, high2 - j);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Comparator<? super T> orderOf(Comparator<? super T> comparator) {
+        return comparator != null ? comparator : (Comparator) Comparator.naturalOrder();
+    }
+}
@@ -0,0 +1,377 @@
+package com.evgeniyfedorchenko.simplearraylist.sorting;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Поразрядная сортировка LSD с разрядом в 8 бит: int - 4 прохода, long - 8, строки - по проходу на символ.
+ * Время линейное, сортировка стабильная. Гистограммы всех разрядов int и long строятся за один проход,
+ * и разряд, в котором у всех элементов одна цифра, пропускается.
+ * Знаковые числа сортируются как числа: у старшего разряда инвертируется знаковый бит.
+ * Вспомогательные массивы берутся из {@link Buffers}, которые список держит между вызовами.
+ */
+public final class RadixSort {
+
+    /**
+     * Размер, начиная с которого списки сами выбирают поразрядную сортировку вместо сравнений.
+     */
+    public static final int THRESHOLD = 1 << 10;
+
+    /**
+     * Строки длиннее этого сортируются сравнениями: каждый символ - это отдельный проход по массиву.
+     * Даже на ключах в 12 символов поразрядная сортировка строк идет вровень с IntroSort, поэтому списки
+     * не выбирают ее сами, она доступна только явно.
+     */
+    public static final int MAX_STRING_KEY_LENGTH = 16;
+
+    private static final int RADIX = 1 << 8;
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int SIGN_FLIP = RADIX >>> 1;
+
+    private RadixSort() {
+    }
+
+    /**
+     * Переиспользуемые вспомогательные массивы. Растут до размера самой большой сортировки и не уменьшаются.
+     */
+    public static final class Buffers {
+
+        private int[] intKeys = new int[0];
+        private int[] intScratch = new int[0];
+        private long[] longKeys = new long[0];
+        private long[] longScratch = new long[0];
+        private Object[] objectKeys = new Object[0];
+        private Object[] objectKeyScratch = new Object[0];
+        private Object[] objectScratch = new Object[0];
+        private final int[] counts = new int[Long.BYTES * RADIX];
+
+        /* Обнуленные счетчики: по RADIX на каждый разряд */
+        private int[] counts(int length) {
+            Arrays.fill(counts, 0, length, 0);
+            return counts;
+        }
+
+        private int[] intKeys(int length) {
+            return intKeys.length >= length ? intKeys : (intKeys = new int[length]);
+        }
+
+        private int[] intScratch(int length) {
+            return intScratch.length >= length ? intScratch : (intScratch = new int[length]);
+        }
+
+        private long[] longKeys(int length) {
+            return longKeys.length >= length ? longKeys : (longKeys = new long[length]);
+        }
+
+        private long[] longScratch(int length) {
+            return longScratch.length >= length ? longScratch : (longScratch = new long[length]);
+        }
+
+        private Object[] objectKeys(int length) {
+            return objectKeys.length >= length ? objectKeys : (objectKeys = new Object[length]);
+        }
+
+        private Object[] objectKeyScratch(int length) {
+            return objectKeyScratch.length >= length ? objectKeyScratch : (objectKeyScratch = new Object[length]);
+        }
+
+        private Object[] objectScratch(int length) {
+            return objectScratch.length >= length ? objectScratch : (objectScratch = new Object[length]);
+        }
+
+        /* Ссылки на элементы и ключи не должны переживать сортировку */
+        private void releaseObjects(int length) {
+            Arrays.fill(objectKeys, 0, Math.min(length, objectKeys.length), null);
+            Arrays.fill(objectKeyScratch, 0, Math.min(length, objectKeyScratch.length), null);
+            Arrays.fill(objectScratch, 0, Math.min(length, objectScratch.length), null);
+        }
+    }
+
+    /**
+     * Отсортировать a[from..to) по возрастанию.
+     */
+    public static void sort(int[] a, int from, int to, Buffers buffers) {
+        IntroSort.checkRange(a.length, from, to);
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        int[] counts = histogram(a, from, to, buffers);
+        int[] src = a;
+        int srcBase = from;
+        int[] dst = buffers.intScratch(n);
+        int dstBase = 0;
+        for (int pass = 0; pass < Integer.BYTES; pass++) {
+            int offset = pass * RADIX;
+            if (!prepare(counts, offset, RADIX, n)) {
+                continue;
+            }
+            int shift = pass * Byte.SIZE;
+            int flip = pass == Integer.BYTES - 1 ? SIGN_FLIP : 0;
+            for (int i = 0; i < n; i++) {
+                int value = src[srcBase + i];
+                dst[dstBase + counts[offset + (((value >>> shift) & DIGIT_MASK) ^ flip)]++] = value;
+            }
+            int[] array = src;
+            src = dst;
+            dst = array;
+            int base = srcBase;
+            srcBase = dstBase;
+            dstBase = base;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcBase, a, from, n);
+        }
+    }
+
+    /**
+     * Отсортировать a[from..to) по возрастанию.
+     */
+    public static void sort(long[] a, int from, int to, Buffers buffers) {
+        IntroSort.checkRange(a.length, from, to);
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        int[] counts = histogram(a, from, to, buffers);
+        long[] src = a;
+        int srcBase = from;
+        long[] dst = buffers.longScratch(n);
+        int dstBase = 0;
+        for (int pass = 0; pass < Long.BYTES; pass++) {
+            int offset = pass * RADIX;
+            if (!prepare(counts, offset, RADIX, n)) {
+                continue;
+            }
+            int shift = pass * Byte.SIZE;
+            int flip = pass == Long.BYTES - 1 ? SIGN_FLIP : 0;
+            for (int i = 0; i < n; i++) {
+                long value = src[srcBase + i];
+                dst[dstBase + counts[offset + ((int) ((value >>> shift) & DIGIT_MASK) ^ flip)]++] = value;
+            }
+            long[] array = src;
+            src = dst;
+            dst = array;
+            int base = srcBase;
+            srcBase = dstBase;
+            dstBase = base;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcBase, a, from, n);
+        }
+    }
+
+    /**
+     * Стабильно отсортировать a[from..to) по возрастанию int-ключа. Ключ вычисляется один раз на элемент.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sortByInt(Object[] a, int from, int to, ToIntFunction<? super T> key, Buffers buffers) {
+        IntroSort.checkRange(a.length, from, to);
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        int[] keySrc = buffers.intKeys(n);
+        for (int i = 0; i < n; i++) {
+            keySrc[i] = key.applyAsInt((T) a[from + i]);
+        }
+        int[] counts = histogram(keySrc, 0, n, buffers);
+        int[] keyDst = buffers.intScratch(n);
+        Object[] src = a;
+        int srcBase = from;
+        Object[] dst = buffers.objectScratch(n);
+        int dstBase = 0;
+        for (int pass = 0; pass < Integer.BYTES; pass++) {
+            int offset = pass * RADIX;
+            if (!prepare(counts, offset, RADIX, n)) {
+                continue;
+            }
+            int shift = pass * Byte.SIZE;
+            int flip = pass == Integer.BYTES - 1 ? SIGN_FLIP : 0;
+            for (int i = 0; i < n; i++) {
+                int value = keySrc[i];
+                int position = counts[offset + (((value >>> shift) & DIGIT_MASK) ^ flip)]++;
+                keyDst[position] = value;
+                dst[dstBase + position] = src[srcBase + i];
+            }
+            int[] keys = keySrc;
+            keySrc = keyDst;
+            keyDst = keys;
+            Object[] array = src;
+            src = dst;
+            dst = array;
+            int base = srcBase;
+            srcBase = dstBase;
+            dstBase = base;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcBase, a, from, n);
+        }
+        buffers.releaseObjects(n);
+    }
+
+    /**
+     * Стабильно отсортировать a[from..to) по возрастанию long-ключа. Ключ вычисляется один раз на элемент.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sortByLong(Object[] a, int from, int to, ToLongFunction<? super T> key, Buffers buffers) {
+        IntroSort.checkRange(a.length, from, to);
+        int n = to - from;
+        if (n < 2) {
+            return;
+        }
+        long[] keySrc = buffers.longKeys(n);
+        for (int i = 0; i < n; i++) {
+            keySrc[i] = key.applyAsLong((T) a[from + i]);
+        }
+        int[] counts = histogram(keySrc, 0, n, buffers);
+        long[] keyDst = buffers.longScratch(n);
+        Object[] src = a;
+        int srcBase = from;
+        Object[] dst = buffers.objectScratch(n);
+        int dstBase = 0;
+        for (int pass = 0; pass < Long.BYTES; pass++) {
+            int offset = pass * RADIX;
+            if (!prepare(counts, offset, RADIX, n)) {
+                continue;
+            }
+            int shift = pass * Byte.SIZE;
+            int flip = pass == Long.BYTES - 1 ? SIGN_FLIP : 0;
+            for (int i = 0; i < n; i++) {
+                long value = keySrc[i];
+                int position = counts[offset + ((int) ((value >>> shift) & DIGIT_MASK) ^ flip)]++;
+                keyDst[position] = value;
+                dst[dstBase + position] = src[srcBase + i];
+            }
+            long[] keys = keySrc;
+            keySrc = keyDst;
+            keyDst = keys;
+            Object[] array = src;
+            src = dst;
+            dst = array;
+            int base = srcBase;
+            srcBase = dstBase;
+            dstBase = base;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcBase, a, from, n);
+        }
+        buffers.releaseObjects(n);
+    }
+
+    /**
+     * Стабильно отсортировать a[from..to) по строковому ключу в порядке String.compareTo.
+     * Работает, только если все ключи не длиннее {@link #MAX_STRING_KEY_LENGTH} и состоят из символов
+     * с кодом меньше 256 (ASCII и Latin-1). Иначе массив не меняется и возвращается false.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> boolean sortByString(Object[] a, int from, int to, Function<? super T, String> key, Buffers buffers) {
+        IntroSort.checkRange(a.length, from, to);
+        int n = to - from;
+        if (n < 2) {
+            return true;
+        }
+        Object[] keySrc = buffers.objectKeys(n);
+        int maxLength = 0;
+        for (int i = 0; i < n; i++) {
+            String value = key.apply((T) a[from + i]);
+            if (!isRadixKey(value)) {
+                buffers.releaseObjects(n);
+                return false;
+            }
+            keySrc[i] = value;
+            maxLength = Math.max(maxLength, value.length());
+        }
+        Object[] keyDst = buffers.objectKeyScratch(n);
+        Object[] src = a;
+        int srcBase = from;
+        Object[] dst = buffers.objectScratch(n);
+        int dstBase = 0;
+        // цифра 0 - "символа нет": более короткая строка идет раньше своего продолжения
+        for (int position = maxLength - 1; position >= 0; position--) {
+            int[] counts = buffers.counts(RADIX + 1);
+            for (int i = 0; i < n; i++) {
+                counts[charDigit((String) keySrc[i], position)]++;
+            }
+            if (!prepare(counts, 0, RADIX + 1, n)) {
+                continue;
+            }
+            for (int i = 0; i < n; i++) {
+                String value = (String) keySrc[i];
+                int target = counts[charDigit(value, position)]++;
+                keyDst[target] = value;
+                dst[dstBase + target] = src[srcBase + i];
+            }
+            Object[] keys = keySrc;
+            keySrc = keyDst;
+            keyDst = keys;
+            Object[] array = src;
+            src = dst;
+            dst = array;
+            int base = srcBase;
+            srcBase = dstBase;
+            dstBase = base;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcBase, a, from, n);
+        }
+        buffers.releaseObjects(n);
+        return true;
+    }
+
+    private static boolean isRadixKey(String value) {
+        if (value.length() > MAX_STRING_KEY_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= RADIX) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int charDigit(String value, int position) {
+        return position < value.length() ? value.charAt(position) + 1 : 0;
+    }
+
+    private static int[] histogram(int[] a, int from, int to, Buffers buffers) {
+        int[] counts = buffers.counts(Integer.BYTES * RADIX);
+        for (int i = from; i < to; i++) {
+            int value = a[i];
+            counts[value & DIGIT_MASK]++;
+            counts[RADIX + ((value >>> 8) & DIGIT_MASK)]++;
+            counts[2 * RADIX + ((value >>> 16) & DIGIT_MASK)]++;
+            counts[3 * RADIX + ((value >>> 24) ^ SIGN_FLIP)]++;
+        }
+        return counts;
+    }
+
+    private static int[] histogram(long[] a, int from, int to, Buffers buffers) {
+        int[] counts = buffers.counts(Long.BYTES * RADIX);
+        for (int i = from; i < to; i++) {
+            long value = a[i];
+            for (int pass = 0; pass < Long.BYTES - 1; pass++) {
+                counts[pass * RADIX + (int) ((value >>> (pass * Byte.SIZE)) & DIGIT_MASK)]++;
+            }
+            counts[(Long.BYTES - 1) * RADIX + ((int) (value >>> 56) ^ SIGN_FLIP)]++;
+        }
+        return counts;
+    }
+
+    /* Превращает счетчики разряда в начальные позиции корзин. false, если у всех элементов одна цифра и проход не нужен */
+    private static boolean prepare(int[] counts, int offset, int buckets, int n) {
+        int sum = 0;
+        for (int digit = offset; digit < offset + buckets; digit++) {
+            int count = counts[digit];
+            if (count == n) {
+                return false;
+            }
+            counts[digit] = sum;
+            sum += count;
+        }
+        return true;
+    }
+}
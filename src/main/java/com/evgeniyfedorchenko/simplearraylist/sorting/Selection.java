@@ -0,0 +1,98 @@
+package com.evgeniyfedorchenko.simplearraylist.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Частичное упорядочивание диапазона массива, когда полная сортировка не нужна.
+ * select - поиск k-го элемента (introselect): разбиение как в {@link IntroSort}, но рекурсия только
+ * в ту часть, где лежит k, поэтому в среднем O(n). Если разбиения вырождаются, оставшаяся часть
+ * досортировывается пирамидальной сортировкой, и худший случай остается O(n log n).
+ * smallest - k наименьших элементов через ограниченную кучу за O(n log k) без изменения исходного массива.
+ * Если comparator равен null, элементы сравниваются по естественному порядку (Comparable).
+ */
+public final class Selection {
+
+    private Selection() {
+    }
+
+    /**
+     * Переставить элементы a[from..to) так, чтобы на позиции k оказался тот же элемент, что и после сортировки,
+     * левее него - не большие, правее - не меньшие.
+     */
+    public static <T> void select(Object[] a, int from, int to, int k, Comparator<? super T> comparator) {
+        IntroSort.checkRange(a.length, from, to);
+        if (k < from || k >= to) {
+            throw new IndexOutOfBoundsException("k: " + k + ", from: " + from + ", to: " + to);
+        }
+        Comparator<? super T> c = orNaturalOrder(comparator);
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(to - from, 1)));
+        int low = from;
+        int high = to;
+        while (high - low > IntroSort.INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                IntroSort.heapSort(a, low, high, c);
+                return;
+            }
+            int split = IntroSort.partition(a, low, high, c);
+            if (k < split) {
+                high = split;
+            } else {
+                low = split;
+            }
+        }
+        IntroSort.insertionSort(a, low, high, c);
+    }
+
+    /**
+     * Упорядочить только первые k позиций a[from..to): на них встают k наименьших элементов по порядку,
+     * остальные остаются в произвольном порядке. O(n + k log k).
+     */
+    public static <T> void partialSort(Object[] a, int from, int to, int k, Comparator<? super T> comparator) {
+        IntroSort.checkRange(a.length, from, to);
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        int sortedTo = to - from > k ? from + k : to;
+        if (sortedTo < to) {
+            // после select все элементы левее позиции from + k не больше остальных
+            select(a, from, to, sortedTo, comparator);
+        }
+        IntroSort.sort(a, from, sortedTo, comparator);
+    }
+
+    /**
+     * Новый массив из k наименьших элементов a[from..to), упорядоченных по возрастанию.
+     * Если элементов меньше k, возвращаются все. Исходный массив не меняется.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Object[] smallest(Object[] a, int from, int to, int k, Comparator<? super T> comparator) {
+        IntroSort.checkRange(a.length, from, to);
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        Comparator<? super T> c = orNaturalOrder(comparator);
+        int heapSize = Math.min(k, to - from);
+        if (heapSize == 0) {
+            return new Object[0];
+        }
+        // куча с наибольшим из отобранных в корне: новый элемент вытесняет корень, если меньше него
+        Object[] heap = Arrays.copyOfRange(a, from, from + heapSize);
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            IntroSort.siftDown(heap, 0, i, heapSize, c);
+        }
+        for (int i = from + heapSize; i < to; i++) {
+            if (c.compare((T) a[i], (T) heap[0]) < 0) {
+                heap[0] = a[i];
+                IntroSort.siftDown(heap, 0, 0, heapSize, c);
+            }
+        }
+        IntroSort.heapSort(heap, 0, heapSize, c);
+        return heap;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Comparator<? super T> orNaturalOrder(Comparator<? super T> comparator) {
+        return comparator != null ? comparator : (Comparator) Comparator.naturalOrder();
+    }
+}
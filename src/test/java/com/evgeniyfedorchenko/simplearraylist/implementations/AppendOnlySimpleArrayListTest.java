@@ -0,0 +1,129 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.evgeniyfedorchenko.simplearraylist.implementations.Constants.*;
+import static org.assertj.core.api.Assertions.*;
+
+class AppendOnlySimpleArrayListTest {
+
+    private final SimpleList<String> out = new AppendOnlySimpleArrayList<>();
+
+    @BeforeEach
+    public void beforeEach() {
+        out.add(STRING_1);
+        out.add(STRING_2);
+        out.add(STRING_3);
+    }
+
+    @Test
+    public void read_operations_test() {
+        // invoking
+        out.add(STRING_1);
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_1, STRING_2, STRING_3, STRING_1);
+        assertThat(out.get(2)).isEqualTo(STRING_3);
+        assertThat(out.indexOf(STRING_1)).isZero();
+        assertThat(out.lastIndexOf(STRING_1)).isEqualTo(3);
+        assertThat(out.contains("apple")).isFalse();
+        assertThat(out.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void get_negative_test() {
+        assertThatThrownBy(() -> out.get(3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> out.get(-1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void growth_across_segments_test() {
+        // given
+        SimpleList<Integer> actual = new AppendOnlySimpleArrayList<>();
+        Integer[] batch = IntStream.range(1_000, 1_100).boxed().toArray(Integer[]::new);
+        // invoking
+        for (int i = 0; i < 1_000; i++) {
+            actual.add(i);
+        }
+        actual.addAll(batch);
+        // assertions
+        assertThat(actual.size()).isEqualTo(1_100);
+        for (int i = 0; i < 1_100; i++) {
+            assertThat(actual.get(i)).isEqualTo(i);
+        }
+        assertThat(actual).containsExactlyElementsOf(IntStream.range(0, 1_100).boxed().toList());
+    }
+
+    @Test
+    public void mutators_are_unsupported_test() {
+        assertThatThrownBy(() -> out.add(0, STRING_1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> out.set(0, STRING_1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> out.remove(0))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> out.remove(STRING_1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(out::clear)
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(out::quickSort)
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void concurrent_appends_and_reads_test() throws Exception {
+        // given
+        SimpleList<Integer> actual = new AppendOnlySimpleArrayList<>();
+        int writers = 4;
+        int perWriter = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        // invoking
+        try {
+            for (int w = 0; w < writers; w++) {
+                int base = w * perWriter;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perWriter; i++) {
+                        actual.add(base + i);
+                    }
+                    return null;
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (actual.size() < writers * perWriter) {
+                    int size = actual.size();
+                    if (size > 0) {
+                        assertThat(actual.get(size - 1)).isNotNull();
+                    }
+                }
+                return null;
+            }));
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // assertions
+        Object[] elements = actual.toArray();
+        Arrays.sort(elements);
+        assertThat(elements).isEqualTo(IntStream.range(0, writers * perWriter).boxed().toArray());
+    }
+}
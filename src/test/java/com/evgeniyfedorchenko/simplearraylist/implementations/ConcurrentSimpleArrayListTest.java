@@ -0,0 +1,149 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static com.evgeniyfedorchenko.simplearraylist.implementations.Constants.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ConcurrentSimpleArrayListTest {
+
+    private final SimpleList<String> out = new ConcurrentSimpleArrayList<>();
+
+    @BeforeEach
+    public void beforeEach() {
+        out.add(STRING_1);
+        out.add(STRING_2);
+        out.add(STRING_3);
+    }
+
+    @Test
+    public void single_thread_operations_test() {
+        // invoking
+        out.add(1, STRING_3);
+        out.set(0, "apple");
+        out.remove(STRING_2);
+        // assertions
+        assertThat(out.toArray()).containsExactly("apple", STRING_3, STRING_3);
+        assertThat(out.indexOf(STRING_3)).isEqualTo(1);
+        assertThat(out.lastIndexOf(STRING_3)).isEqualTo(2);
+        assertThat(out.contains(STRING_1)).isFalse();
+        assertThat(out.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void get_negative_test() {
+        assertThatThrownBy(() -> out.get(3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> out.get(-1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void iterator_does_not_fail_on_concurrent_modification_test() {
+        // given
+        Iterator<String> iterator = out.iterator();
+        List<String> visited = new ArrayList<>();
+        // invoking
+        visited.add(iterator.next());
+        out.add("apple");
+        iterator.forEachRemaining(visited::add);
+        // assertions
+        assertThat(visited).containsExactly(STRING_1, STRING_2, STRING_3, "apple");
+        assertThatThrownBy(iterator::next)
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void concurrent_appends_and_reads_test() throws Exception {
+        // given
+        SimpleList<Integer> actual = new ConcurrentSimpleArrayList<>(0);
+        int writers = 4;
+        int perWriter = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        // invoking
+        try {
+            for (int w = 0; w < writers; w++) {
+                int base = w * perWriter;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    IntStream.range(base, base + perWriter).forEach(actual::add);
+                    return null;
+                }));
+            }
+            for (int r = 0; r < 2; r++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (actual.size() < writers * perWriter) {
+                        int size = actual.size();
+                        if (size > 0) {
+                            assertThat(actual.get(size - 1)).isNotNull();
+                            assertThat(actual.indexOf(-1)).isEqualTo(-1);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // assertions
+        assertThat(actual.size()).isEqualTo(writers * perWriter);
+        actual.quickSort();
+        IntStream.range(0, writers * perWriter)
+                .forEach(i -> assertThat(actual.get(i)).isEqualTo(i));
+    }
+
+    @Test
+    public void callbacks_may_read_the_list_test() {
+        // given
+        ForkJoinPool pool = new ForkJoinPool(2);
+        // invoking and assertions
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            out.sort((first, second) -> out.size() > 0 ? second.compareTo(first) : 0);
+            assertThat(out.toArray()).containsExactly(STRING_3, STRING_2, STRING_1);
+            out.parallelSort((first, second) -> out.contains(first) ? first.compareTo(second) : 0, pool);
+            assertThat(out.toArray()).containsExactly(STRING_1, STRING_2, STRING_3);
+            assertThat(out.removeIf(item -> out.indexOf(item) == 1)).isTrue();
+            assertThat(out.toArray()).containsExactly(STRING_1, STRING_3);
+        });
+        pool.shutdown();
+    }
+
+    @Test
+    public void update_is_retried_after_concurrent_write_test() {
+        // given
+        AtomicBoolean written = new AtomicBoolean();
+        // invoking
+        out.sort((first, second) -> {
+            if (written.compareAndSet(false, true)) {
+                out.add("apple");
+            }
+            return first.compareTo(second);
+        });
+        // assertions
+        assertThat(out.toArray()).containsExactly("apple", STRING_1, STRING_2, STRING_3);
+    }
+}
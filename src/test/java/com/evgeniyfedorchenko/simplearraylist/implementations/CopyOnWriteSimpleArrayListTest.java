@@ -0,0 +1,153 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.evgeniyfedorchenko.simplearraylist.implementations.Constants.*;
+import static org.assertj.core.api.Assertions.*;
+
+class CopyOnWriteSimpleArrayListTest {
+
+    private final CopyOnWriteSimpleArrayList<String> out = new CopyOnWriteSimpleArrayList<>();
+
+    @BeforeEach
+    public void beforeEach() {
+        out.mutate(list -> {
+            list.add(STRING_1);
+            list.add(STRING_2);
+            list.add(STRING_3);
+        });
+    }
+
+    @Test
+    public void single_write_operations_test() {
+        // invoking
+        out.add(1, STRING_3);
+        out.set(0, "apple");
+        out.remove(STRING_2);
+        // assertions
+        assertThat(out.toArray()).containsExactly("apple", STRING_3, STRING_3);
+        assertThat(out.indexOf(STRING_3)).isEqualTo(1);
+        assertThat(out.lastIndexOf(STRING_3)).isEqualTo(2);
+        assertThat(out.contains(STRING_1)).isFalse();
+        assertThat(out.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void mutate_applies_batch_test() {
+        // invoking
+        out.mutate(list -> {
+            for (int i = 0; i < 100; i++) {
+                list.add("item" + i);
+            }
+            list.remove(STRING_2);
+            list.sort(null);
+        });
+        // assertions
+        assertThat(out.size()).isEqualTo(102);
+        assertThat(out.get(0)).isEqualTo(STRING_1);
+        assertThat(out.contains(STRING_2)).isFalse();
+        assertThat(out.get(out.size() - 1)).isEqualTo(STRING_3);
+    }
+
+    @Test
+    public void failed_mutate_leaves_list_unchanged_test() {
+        // invoking
+        assertThatThrownBy(() -> out.mutate(list -> {
+            list.clear();
+            list.get(0);
+        })).isInstanceOf(IndexOutOfBoundsException.class);
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_1, STRING_2, STRING_3);
+    }
+
+    @Test
+    public void list_leaked_from_mutate_cannot_change_snapshot_test() {
+        // given
+        AtomicReference<SimpleList<String>> leaked = new AtomicReference<>();
+        out.mutate(leaked::set);
+        // invoking
+        leaked.get().add("apple");
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_1, STRING_2, STRING_3);
+    }
+
+    @Test
+    public void iterator_works_on_snapshot_test() {
+        // given
+        Iterator<String> iterator = out.iterator();
+        List<String> visited = new ArrayList<>();
+        // invoking
+        visited.add(iterator.next());
+        out.clear();
+        out.add("apple");
+        iterator.forEachRemaining(visited::add);
+        // assertions
+        assertThat(visited).containsExactly(STRING_1, STRING_2, STRING_3);
+        assertThat(out.toArray()).containsExactly("apple");
+    }
+
+    @Test
+    public void get_negative_test() {
+        assertThatThrownBy(() -> out.get(3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> out.get(-1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void readers_see_whole_batches_test() throws Exception {
+        // given
+        CopyOnWriteSimpleArrayList<Integer> actual = new CopyOnWriteSimpleArrayList<>();
+        int batches = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        // invoking
+        try {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int b = 0; b < batches; b++) {
+                    int value = b;
+                    actual.mutate(list -> {
+                        list.add(value);
+                        list.add(value);
+                    });
+                }
+                return null;
+            }));
+            for (int r = 0; r < 2; r++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (actual.size() < 2 * batches) {
+                        Object[] snapshot = actual.toArray();
+                        assertThat(snapshot.length % 2).isZero();
+                        for (int i = 0; i < snapshot.length; i += 2) {
+                            assertThat(snapshot[i]).isEqualTo(snapshot[i + 1]);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // assertions
+        assertThat(actual.size()).isEqualTo(2 * batches);
+    }
+}
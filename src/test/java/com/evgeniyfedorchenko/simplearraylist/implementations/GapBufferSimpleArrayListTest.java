@@ -0,0 +1,99 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static com.evgeniyfedorchenko.simplearraylist.implementations.Constants.*;
+import static org.assertj.core.api.Assertions.*;
+
+class GapBufferSimpleArrayListTest {
+
+    private final GapBufferSimpleArrayList<String> out = new GapBufferSimpleArrayList<>();
+
+    @BeforeEach
+    public void beforeEach() {
+        out.add(STRING_1);
+        out.add(STRING_2);
+        out.add(STRING_3);
+    }
+
+    @Test
+    public void insert_and_remove_in_the_middle_test() {
+        // invoking
+        out.add(1, "apple");
+        out.add(0, "kiwi");
+        out.remove(3);
+        // assertions
+        assertThat(out.toArray()).containsExactly("kiwi", STRING_1, "apple", STRING_3);
+        assertThat(out.get(2)).isEqualTo("apple");
+        assertThat(out.indexOf(STRING_3)).isEqualTo(3);
+        assertThat(out.lastIndexOf("kiwi")).isZero();
+        assertThat(out.size()).isEqualTo(4);
+        assertThat(out).containsExactly("kiwi", STRING_1, "apple", STRING_3);
+    }
+
+    @Test
+    public void get_negative_test() {
+        assertThatThrownBy(() -> out.get(3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> out.add(3, STRING_1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> out.remove("apple"))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void sort_with_gap_in_the_middle_test() {
+        // given
+        out.add(1, "apple");
+        // invoking
+        out.quickSort();
+        out.add(STRING_1);
+        // assertions
+        assertThat(out.toArray()).containsExactly("apple", STRING_1, STRING_2, STRING_3, STRING_1);
+    }
+
+    @Test
+    public void random_cursor_edits_match_array_list_test() {
+        // given
+        GapBufferSimpleArrayList<Integer> actual = new GapBufferSimpleArrayList<>(0);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            actual.add(i);
+            expected.add(i);
+        }
+        int cursor = 100;
+        // invoking
+        for (int step = 0; step < 20_000; step++) {
+            cursor = Math.max(0, Math.min(expected.size() - 1, cursor + random.nextInt(21) - 10));
+            switch (random.nextInt(5)) {
+                case 0, 1 -> {
+                    actual.add(cursor, step);
+                    expected.add(cursor, step);
+                }
+                case 2 -> assertThat(actual.remove(cursor)).isEqualTo(expected.remove(cursor));
+                case 3 -> assertThat(actual.set(cursor, -step)).isEqualTo(expected.set(cursor, -step));
+                default -> {
+                    actual.add(step);
+                    expected.add(step);
+                }
+            }
+            if (expected.isEmpty()) {
+                actual.add(step);
+                expected.add(step);
+            }
+        }
+        // assertions
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+        assertThat(actual.get(cursor)).isEqualTo(expected.get(cursor));
+        actual.removeRange(10, 50);
+        expected.subList(10, 50).clear();
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+    }
+}
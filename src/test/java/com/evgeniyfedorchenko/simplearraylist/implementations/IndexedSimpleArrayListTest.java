@@ -0,0 +1,167 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.evgeniyfedorchenko.simplearraylist.implementations.Constants.*;
+import static org.assertj.core.api.Assertions.*;
+
+class IndexedSimpleArrayListTest {
+
+    private final IndexedSimpleArrayList<String> out = new IndexedSimpleArrayList<>();
+
+    @BeforeEach
+    public void beforeEach() {
+        out.add(STRING_1);
+        out.add(STRING_2);
+        out.add(STRING_1);
+        out.add(STRING_3);
+    }
+
+    @Test
+    public void indexOf_and_lastIndexOf_test() {
+        // invoking and assertions
+        assertThat(out.indexOf(STRING_1)).isEqualTo(0);
+        assertThat(out.lastIndexOf(STRING_1)).isEqualTo(2);
+        assertThat(out.indexOf("apple")).isEqualTo(-1);
+        assertThat(out.contains(STRING_3)).isTrue();
+        assertThat(out.count(STRING_1)).isEqualTo(2);
+    }
+
+    @Test
+    public void add_with_index_moves_positions_test() {
+        // invoking
+        out.add(1, STRING_3);
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_1, STRING_3, STRING_2, STRING_1, STRING_3);
+        assertThat(out.indexOf(STRING_3)).isEqualTo(1);
+        assertThat(out.lastIndexOf(STRING_3)).isEqualTo(4);
+        assertThat(out.indexOf(STRING_2)).isEqualTo(2);
+    }
+
+    @Test
+    public void set_and_remove_test() {
+        // invoking
+        out.set(0, STRING_2);
+        out.remove(STRING_2);
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_2, STRING_1, STRING_3);
+        assertThat(out.indexOf(STRING_1)).isEqualTo(1);
+        assertThat(out.count(STRING_2)).isEqualTo(1);
+        assertThatThrownBy(() -> out.remove("apple"))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void sort_rebuilds_index_test() {
+        // invoking
+        out.sort(Comparator.reverseOrder());
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_3, STRING_2, STRING_1, STRING_1);
+        assertThat(out.indexOf(STRING_1)).isEqualTo(2);
+        assertThat(out.indexOf(STRING_3)).isEqualTo(0);
+    }
+
+    @Test
+    public void clear_test() {
+        // invoking
+        out.clear();
+        out.add(STRING_2);
+        // assertions
+        assertThat(out.contains(STRING_1)).isFalse();
+        assertThat(out.indexOf(STRING_2)).isEqualTo(0);
+    }
+
+    @Test
+    public void random_operations_match_arrayList_test() {
+        // given
+        Random random = new Random(17);
+        SimpleList<Integer> actual = new IndexedSimpleArrayList<>(0);
+        List<Integer> expected = new ArrayList<>();
+        // invoking
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(300);
+            int operation = random.nextInt(6);
+            if (expected.isEmpty() || operation == 0 || operation == 1) {
+                actual.add(value);
+                expected.add(value);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                actual.add(index, value);
+                expected.add(index, value);
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertThat(actual.set(index, value)).isEqualTo(expected.set(index, value));
+            } else if (operation == 4) {
+                int index = random.nextInt(expected.size());
+                assertThat(actual.remove(index)).isEqualTo(expected.remove(index));
+            } else if (expected.contains(value)) {
+                actual.remove(Integer.valueOf(value));
+                expected.remove(Integer.valueOf(value));
+            }
+        }
+        // assertions
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+        IntStream.range(0, 300).forEach(value -> {
+            assertThat(actual.indexOf(value)).isEqualTo(expected.indexOf(value));
+            assertThat(actual.lastIndexOf(value)).isEqualTo(expected.lastIndexOf(value));
+            assertThat(actual.contains(value)).isEqualTo(expected.contains(value));
+        });
+    }
+
+    @Test
+    public void positional_changes_at_head_and_tail_of_long_list_test() {
+        // given
+        IndexedSimpleArrayList<Integer> actual = new IndexedSimpleArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            actual.add(i % 100);
+            expected.add(i % 100);
+        }
+        // invoking
+        actual.add(1, -1);
+        expected.add(1, -1);
+        actual.add(995, -2);
+        expected.add(995, -2);
+        actual.remove(2);
+        expected.remove(2);
+        actual.remove(990);
+        expected.remove(990);
+        // assertions
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+        IntStream.range(-2, 100).forEach(value -> {
+            assertThat(actual.indexOf(value)).isEqualTo(expected.indexOf(value));
+            assertThat(actual.lastIndexOf(value)).isEqualTo(expected.lastIndexOf(value));
+        });
+    }
+
+    @Test
+    public void setParallelSortThreshold_test() {
+        // invoking
+        out.setParallelSortThreshold(1);
+        out.parallelSort(null);
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_1, STRING_1, STRING_2, STRING_3);
+        assertThatThrownBy(() -> out.setParallelSortThreshold(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void bulk_operations_keep_index_test() {
+        // invoking
+        out.addAll(List.of("apple", STRING_2));
+        out.removeAll(List.of(STRING_1));
+        out.removeRange(0, 1);
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_3, "apple", STRING_2);
+        assertThat(out.indexOf(STRING_2)).isEqualTo(2);
+        assertThat(out.contains(STRING_1)).isFalse();
+    }
+}
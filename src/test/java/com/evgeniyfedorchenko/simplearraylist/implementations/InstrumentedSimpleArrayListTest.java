@@ -0,0 +1,87 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InstrumentedSimpleArrayListTest {
+
+    private final InstrumentedSimpleArrayList<Integer> out = new InstrumentedSimpleArrayList<>(4);
+
+    @BeforeEach
+    public void beforeEach() {
+        for (int i = 10; i > 0; i--) {
+            out.add(i);
+        }
+    }
+
+    @Test
+    public void grow_and_copy_counters_test() {
+        // given
+        long copiedBefore = out.getCopiedElements();
+        // invoking
+        out.add(0, 42);
+        out.remove(0);
+        // assertions
+        assertThat(out.getGrowCount()).isEqualTo(3);
+        assertThat(copiedBefore).isEqualTo(4 + 6 + 9);
+        assertThat(out.getCopiedElements() - copiedBefore).isEqualTo(20);
+        assertThat(out.getCapacity()).isEqualTo(out.getPeakCapacity()).isEqualTo(13);
+        assertThat(out.getWastedCapacityRatio()).isEqualTo(3.0 / 13);
+    }
+
+    @Test
+    public void scan_and_comparison_counters_test() {
+        // invoking
+        out.indexOf(8);
+        out.contains(100);
+        long comparisonsBeforeSort = out.getComparisons();
+        out.quickSort();
+        long sortComparisons = out.getComparisons();
+        out.indexOf(5);
+        // assertions
+        assertThat(out.getScannedElements()).isEqualTo(3 + 10);
+        assertThat(comparisonsBeforeSort).isZero();
+        assertThat(sortComparisons).isPositive();
+        assertThat(out.getComparisons() - sortComparisons).isBetween(1L, 6L);
+        assertThat(out.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    public void large_natural_sort_takes_radix_path_like_plain_list_test() {
+        // given
+        for (int i = 0; i < 2_000; i++) {
+            out.add(-i);
+        }
+        long comparisonsBeforeSort = out.getComparisons();
+        // invoking
+        out.sort(null);
+        // assertions
+        assertThat(out.getComparisons()).isEqualTo(comparisonsBeforeSort);
+        assertThat(out.get(0)).isEqualTo(-1_999);
+        assertThat(out.get(out.size() - 1)).isEqualTo(10);
+    }
+
+    @Test
+    public void jmx_registration_test() throws Exception {
+        // given
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        // invoking
+        ObjectName name = out.registerMBean("routes");
+        try {
+            out.indexOf(1);
+            // assertions
+            assertThat(server.getAttribute(name, "Size")).isEqualTo(10);
+            assertThat(server.getAttribute(name, "ScannedElements")).isEqualTo(10L);
+            server.invoke(name, "reset", null, null);
+            assertThat(out.getScannedElements()).isZero();
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.RadixSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntSimpleArrayListTest {
+
+    private final IntSimpleArrayList out = new IntSimpleArrayList();
+
+    @BeforeEach
+    public void beforeEach() {
+        IntStream.of(5, -3, 12, 7, -3, 0).forEach(out::addInt);
+    }
+
+    @Test
+    public void addInt_and_getInt_test() {
+        // invoking
+        IntStream.range(0, 100).forEach(out::addInt);
+        // assertions
+        assertThat(out.size()).isEqualTo(106);
+        assertThat(out.getInt(0)).isEqualTo(5);
+        assertThat(out.getInt(105)).isEqualTo(99);
+    }
+
+    @Test
+    public void addInt_with_index_and_removeInt_test() {
+        // invoking
+        out.addInt(1, 42);
+        int removed = out.removeInt(0);
+        // assertions
+        assertThat(removed).isEqualTo(5);
+        assertThat(out.toIntArray()).containsExactly(42, -3, 12, 7, -3, 0);
+    }
+
+    @Test
+    public void getInt_negative_test() {
+        assertThatThrownBy(() -> out.getInt(6))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void indexOf_and_lastIndexOf_test() {
+        // invoking and assertions
+        assertThat(out.indexOf(-3)).isEqualTo(1);
+        assertThat(out.lastIndexOf(-3)).isEqualTo(4);
+        assertThat(out.indexOf(100)).isEqualTo(-1);
+        assertThat(out.contains(0)).isTrue();
+    }
+
+    @Test
+    public void count_test() {
+        // invoking and assertions
+        assertThat(out.count(-3)).isEqualTo(2);
+        assertThat(out.count(100)).isZero();
+    }
+
+    @Test
+    public void sum_min_max_test() {
+        // invoking and assertions
+        assertThat(out.sum()).isEqualTo(18);
+        assertThat(out.min()).isEqualTo(-3);
+        assertThat(out.max()).isEqualTo(12);
+    }
+
+    @Test
+    public void sum_does_not_overflow_test() {
+        // given
+        IntSimpleArrayList actual = new IntSimpleArrayList();
+        actual.addInt(Integer.MAX_VALUE);
+        actual.addInt(Integer.MAX_VALUE);
+        // invoking and assertion
+        assertThat(actual.sum()).isEqualTo(2L * Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void min_on_empty_list_test() {
+        assertThatThrownBy(() -> new IntSimpleArrayList().min())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void sort_test() {
+        // invoking
+        out.sort();
+        // assertion
+        assertThat(out.toIntArray()).containsExactly(-3, -3, 0, 5, 7, 12);
+    }
+
+    @Test
+    public void radixSort_test() {
+        // invoking
+        out.radixSort();
+        // assertion
+        assertThat(out.toIntArray()).containsExactly(-3, -3, 0, 5, 7, 12);
+    }
+
+    @Test
+    public void sort_above_radix_threshold_test() {
+        // given
+        int[] expected = new Random(3).ints(RadixSort.THRESHOLD * 4).toArray();
+        IntSimpleArrayList actual = new IntSimpleArrayList();
+        for (int value : expected) {
+            actual.addInt(value);
+        }
+        Arrays.sort(expected);
+        // invoking
+        actual.sort();
+        // assertion
+        assertThat(actual.toIntArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void parallelSort_in_given_pool_test() {
+        // given
+        int[] expected = new Random(4).ints(ParallelSort.DEFAULT_THRESHOLD * 10).toArray();
+        IntSimpleArrayList actual = new IntSimpleArrayList();
+        for (int value : expected) {
+            actual.addInt(value);
+        }
+        Arrays.sort(expected);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        // invoking
+        actual.parallelSort(null, pool);
+        pool.shutdown();
+        // assertion
+        assertThat(actual.toIntArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void sort_with_comparator_test() {
+        // invoking
+        out.sort(Comparator.reverseOrder());
+        // assertion
+        assertThat(out.toIntArray()).containsExactly(12, 7, 5, 0, -3, -3);
+    }
+
+    @Test
+    public void boxed_simpleList_methods_test() {
+        // invoking
+        out.add(Integer.valueOf(9));
+        out.remove(Integer.valueOf(-3));
+        // assertions
+        assertThat(out.get(5)).isEqualTo(9);
+        assertThat(out.indexOf(Integer.valueOf(-3))).isEqualTo(3);
+        assertThat(out).containsExactly(5, 12, 7, -3, 0, 9);
+        assertThatThrownBy(() -> out.add(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void equals_test() {
+        // given
+        IntSimpleArrayList actual = new IntSimpleArrayList(0);
+        IntStream.of(5, -3, 12, 7, -3, 0).forEach(actual::addInt);
+        // invoking and assertions
+        assertThat(out.equals(actual)).isTrue();
+        assertThat(out.hashCode()).isEqualTo(actual.hashCode());
+        actual.setInt(0, 6);
+        assertThat(out.equals(actual)).isFalse();
+    }
+
+    @Test
+    public void intStream_test() {
+        // invoking and assertions
+        assertThat(out.intStream().sum()).isEqualTo(18);
+        assertThat(out.parallelStream().mapToInt(Integer::intValue).max()).hasValue(12);
+    }
+}
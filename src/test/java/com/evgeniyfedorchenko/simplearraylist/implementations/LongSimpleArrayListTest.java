@@ -0,0 +1,182 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.sorting.ParallelSort;
+import com.evgeniyfedorchenko.simplearraylist.sorting.RadixSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LongSimpleArrayListTest {
+
+    private final LongSimpleArrayList out = new LongSimpleArrayList();
+
+    @BeforeEach
+    public void beforeEach() {
+        IntStream.of(5, -3, 12, 7, -3, 0).forEach(out::addLong);
+    }
+
+    @Test
+    public void addLong_and_getLong_test() {
+        // invoking
+        IntStream.range(0, 100).forEach(out::addLong);
+        // assertions
+        assertThat(out.size()).isEqualTo(106);
+        assertThat(out.getLong(0)).isEqualTo(5);
+        assertThat(out.getLong(105)).isEqualTo(99);
+    }
+
+    @Test
+    public void addLong_with_index_and_removeLong_test() {
+        // invoking
+        out.addLong(1, 42);
+        long removed = out.removeLong(0);
+        // assertions
+        assertThat(removed).isEqualTo(5);
+        assertThat(out.toLongArray()).containsExactly(42, -3, 12, 7, -3, 0);
+    }
+
+    @Test
+    public void getLong_negative_test() {
+        assertThatThrownBy(() -> out.getLong(6))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void indexOf_and_lastIndexOf_test() {
+        // invoking and assertions
+        assertThat(out.indexOf(-3)).isEqualTo(1);
+        assertThat(out.lastIndexOf(-3)).isEqualTo(4);
+        assertThat(out.indexOf(100)).isEqualTo(-1);
+        assertThat(out.contains(0)).isTrue();
+    }
+
+    @Test
+    public void count_test() {
+        // invoking and assertions
+        assertThat(out.count(-3)).isEqualTo(2);
+        assertThat(out.count(100)).isZero();
+    }
+
+    @Test
+    public void sum_min_max_test() {
+        // invoking and assertions
+        assertThat(out.sum()).isEqualTo(18);
+        assertThat(out.min()).isEqualTo(-3);
+        assertThat(out.max()).isEqualTo(12);
+    }
+
+    @Test
+    public void values_outside_int_range_test() {
+        // given
+        LongSimpleArrayList actual = new LongSimpleArrayList();
+        actual.addLong(Long.MAX_VALUE);
+        actual.addLong(Long.MIN_VALUE);
+        actual.addLong(1L << 40);
+        // invoking and assertions
+        assertThat(actual.indexOf(1L << 40)).isEqualTo(2);
+        assertThat(actual.max()).isEqualTo(Long.MAX_VALUE);
+        assertThat(actual.min()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    public void min_on_empty_list_test() {
+        assertThatThrownBy(() -> new LongSimpleArrayList().min())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void sort_test() {
+        // invoking
+        out.sort();
+        // assertion
+        assertThat(out.toLongArray()).containsExactly(-3, -3, 0, 5, 7, 12);
+    }
+
+    @Test
+    public void radixSort_test() {
+        // invoking
+        out.radixSort();
+        // assertion
+        assertThat(out.toLongArray()).containsExactly(-3, -3, 0, 5, 7, 12);
+    }
+
+    @Test
+    public void sort_above_radix_threshold_test() {
+        // given
+        long[] expected = new Random(3).longs(RadixSort.THRESHOLD * 4).toArray();
+        LongSimpleArrayList actual = new LongSimpleArrayList();
+        for (long value : expected) {
+            actual.addLong(value);
+        }
+        Arrays.sort(expected);
+        // invoking
+        actual.sort();
+        // assertion
+        assertThat(actual.toLongArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void parallelSort_in_given_pool_test() {
+        // given
+        long[] expected = new Random(4).longs(ParallelSort.DEFAULT_THRESHOLD * 10).toArray();
+        LongSimpleArrayList actual = new LongSimpleArrayList();
+        for (long value : expected) {
+            actual.addLong(value);
+        }
+        Arrays.sort(expected);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        // invoking
+        actual.parallelSort(null, pool);
+        pool.shutdown();
+        // assertion
+        assertThat(actual.toLongArray()).isEqualTo(expected);
+    }
+
+    @Test
+    public void sort_with_comparator_test() {
+        // invoking
+        out.sort(Comparator.reverseOrder());
+        // assertion
+        assertThat(out.toLongArray()).containsExactly(12, 7, 5, 0, -3, -3);
+    }
+
+    @Test
+    public void boxed_simpleList_methods_test() {
+        // invoking
+        out.add(9L);
+        out.remove(Long.valueOf(-3));
+        // assertions
+        assertThat(out.get(5)).isEqualTo(9L);
+        assertThat(out.indexOf(Long.valueOf(-3))).isEqualTo(3);
+        assertThat(out).containsExactly(5L, 12L, 7L, -3L, 0L, 9L);
+        assertThatThrownBy(() -> out.add(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void equals_test() {
+        // given
+        LongSimpleArrayList actual = new LongSimpleArrayList(0);
+        IntStream.of(5, -3, 12, 7, -3, 0).forEach(actual::addLong);
+        // invoking and assertions
+        assertThat(out.equals(actual)).isTrue();
+        assertThat(out.hashCode()).isEqualTo(actual.hashCode());
+        actual.setLong(0, 6);
+        assertThat(out.equals(actual)).isFalse();
+    }
+
+    @Test
+    public void longStream_test() {
+        // invoking and assertions
+        assertThat(out.longStream().sum()).isEqualTo(18);
+        assertThat(out.parallelStream().mapToLong(Long::longValue).max()).hasValue(12);
+    }
+}
@@ -0,0 +1,75 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MappedSimpleArrayListTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void reopen_keeps_elements_test() throws IOException {
+        // given
+        Path file = directory.resolve("longs.bin");
+        try (MappedSimpleArrayList<Long> actual = MappedSimpleArrayList.create(file, MappedSimpleArrayList.Codec.LONG)) {
+            for (long i = 0; i < 5_000; i++) {
+                actual.add(i * 3);
+            }
+            actual.set(10, -1L);
+            actual.remove(0);
+        }
+        // invoking
+        try (MappedSimpleArrayList<Long> reopened = MappedSimpleArrayList.open(file, MappedSimpleArrayList.Codec.LONG)) {
+            // assertions
+            assertThat(reopened.size()).isEqualTo(4_999);
+            assertThat(reopened.get(0)).isEqualTo(3L);
+            assertThat(reopened.get(9)).isEqualTo(-1L);
+            assertThat(reopened.get(4_998)).isEqualTo(4_999L * 3);
+            reopened.add(42L);
+            assertThat(reopened.lastIndexOf(42L)).isEqualTo(4_999);
+        }
+    }
+
+    @Test
+    public void small_chunks_test() throws IOException {
+        // given
+        Path file = directory.resolve("doubles.bin");
+        try (MappedSimpleArrayList<Double> actual = MappedSimpleArrayList.create(file, MappedSimpleArrayList.Codec.DOUBLE, 64)) {
+            // invoking
+            for (int i = 0; i < 1_000; i++) {
+                actual.add(1_000.0 - i);
+            }
+            actual.add(500, 0.5);
+            actual.quickSort();
+            // assertions
+            assertThat(actual.size()).isEqualTo(1_001);
+            assertThat(actual.get(0)).isEqualTo(0.5);
+            assertThat(actual.get(1)).isEqualTo(1.0);
+            assertThat(actual.get(1_000)).isEqualTo(1_000.0);
+            assertThat(actual.indexOf(8.0)).isEqualTo(8);
+        }
+        try (MappedSimpleArrayList<Double> reopened = MappedSimpleArrayList.open(file, MappedSimpleArrayList.Codec.DOUBLE, 40)) {
+            assertThat(reopened.get(999)).isEqualTo(999.0);
+        }
+    }
+
+    @Test
+    public void open_negative_test() throws IOException {
+        // given
+        Path file = directory.resolve("ints.bin");
+        MappedSimpleArrayList.create(file, MappedSimpleArrayList.Codec.INTEGER).close();
+        Path garbage = Files.write(directory.resolve("garbage.bin"), new byte[64]);
+        // assertions
+        assertThatThrownBy(() -> MappedSimpleArrayList.open(file, MappedSimpleArrayList.Codec.LONG))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> MappedSimpleArrayList.open(garbage, MappedSimpleArrayList.Codec.INTEGER))
+                .isInstanceOf(IOException.class);
+    }
+}
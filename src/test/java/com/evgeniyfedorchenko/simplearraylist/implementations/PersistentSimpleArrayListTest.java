@@ -0,0 +1,112 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.evgeniyfedorchenko.simplearraylist.implementations.Constants.*;
+import static org.assertj.core.api.Assertions.*;
+
+class PersistentSimpleArrayListTest {
+
+    private final PersistentSimpleArrayList<String> out = PersistentSimpleArrayList.of(STRING_1, STRING_2, STRING_3);
+
+    @Test
+    public void versions_are_independent_test() {
+        // invoking
+        PersistentSimpleArrayList<String> appended = out.append("apple");
+        PersistentSimpleArrayList<String> replaced = appended.with(0, "kiwi");
+        PersistentSimpleArrayList<String> sliced = replaced.slice(1, 3);
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_1, STRING_2, STRING_3);
+        assertThat(appended.toArray()).containsExactly(STRING_1, STRING_2, STRING_3, "apple");
+        assertThat(replaced.toArray()).containsExactly("kiwi", STRING_2, STRING_3, "apple");
+        assertThat(sliced.toArray()).containsExactly(STRING_2, STRING_3);
+        assertThat(sliced.append(STRING_1).toArray()).containsExactly(STRING_2, STRING_3, STRING_1);
+        assertThat(replaced.indexOf("apple")).isEqualTo(3);
+    }
+
+    @Test
+    public void mutators_are_unsupported_test() {
+        assertThatThrownBy(() -> out.add(STRING_1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> out.set(0, STRING_1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> out.remove(0))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(out::clear)
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> out.with(3, STRING_1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> out.slice(2, 4))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void builder_cannot_be_reused_after_build_test() {
+        // given
+        PersistentSimpleArrayList.Builder<String> builder = out.toBuilder().add("apple");
+        // invoking
+        PersistentSimpleArrayList<String> built = builder.build();
+        // assertions
+        assertThat(built.toArray()).containsExactly(STRING_1, STRING_2, STRING_3, "apple");
+        assertThat(out.size()).isEqualTo(3);
+        assertThatThrownBy(() -> builder.add(STRING_1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void deep_trie_operations_match_array_list_test() {
+        // given
+        int size = 40_000;
+        PersistentSimpleArrayList<Integer> built = PersistentSimpleArrayList.from(IntStream.range(0, size).boxed().toList());
+        PersistentSimpleArrayList<Integer> appended = PersistentSimpleArrayList.empty();
+        for (int i = 0; i < size; i++) {
+            appended = appended.append(i);
+        }
+        List<Integer> expected = new ArrayList<>(IntStream.range(0, size).boxed().toList());
+        Random random = new Random(3);
+        // invoking
+        PersistentSimpleArrayList<Integer> actual = built;
+        for (int step = 0; step < 2_000; step++) {
+            int index = random.nextInt(size);
+            actual = actual.with(index, -step);
+            expected.set(index, -step);
+        }
+        // assertions
+        assertThat(built).isEqualTo(appended);
+        assertThat(built.get(size - 1)).isEqualTo(size - 1);
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+        for (int step = 0; step < 200; step++) {
+            int from = random.nextInt(size);
+            int to = from + random.nextInt(size - from + 1);
+            PersistentSimpleArrayList<Integer> slice = actual.slice(from, to).append(step);
+            List<Integer> expectedSlice = new ArrayList<>(expected.subList(from, to));
+            expectedSlice.add(step);
+            assertThat(slice.toArray()).isEqualTo(expectedSlice.toArray());
+            int index = random.nextInt(expectedSlice.size());
+            assertThat(slice.with(index, 7).get(index)).isEqualTo(7);
+        }
+    }
+
+    @Test
+    public void builder_from_slice_test() {
+        // given
+        PersistentSimpleArrayList<Integer> source = PersistentSimpleArrayList.from(IntStream.range(0, 5_000).boxed().toList());
+        PersistentSimpleArrayList<Integer> slice = source.slice(100, 3_000);
+        // invoking
+        PersistentSimpleArrayList<Integer> actual = slice.appendAll(PersistentSimpleArrayList.of(-1, -2));
+        PersistentSimpleArrayList<Integer> edited = actual.toBuilder().set(0, 42).set(2_899, 43).build();
+        // assertions
+        assertThat(actual.size()).isEqualTo(2_902);
+        assertThat(actual.get(0)).isEqualTo(100);
+        assertThat(actual.get(2_900)).isEqualTo(-1);
+        assertThat(edited.get(0)).isEqualTo(42);
+        assertThat(edited.get(2_899)).isEqualTo(43);
+        assertThat(actual.get(2_899)).isEqualTo(2_999);
+        assertThat(source.get(100)).isEqualTo(100);
+    }
+}
@@ -0,0 +1,122 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static com.evgeniyfedorchenko.simplearraylist.implementations.Constants.*;
+import static org.assertj.core.api.Assertions.*;
+
+class RingBufferSimpleArrayListTest {
+
+    private final RingBufferSimpleArrayList<String> out = new RingBufferSimpleArrayList<>(4);
+
+    @BeforeEach
+    public void beforeEach() {
+        out.addLast(STRING_2);
+        out.addLast(STRING_3);
+        out.addFirst(STRING_1);
+    }
+
+    @Test
+    public void deque_operations_test() {
+        // invoking
+        out.addFirst("apple");
+        out.addLast("kiwi");
+        // assertions
+        assertThat(out.toArray()).containsExactly("apple", STRING_1, STRING_2, STRING_3, "kiwi");
+        assertThat(out.peekFirst()).isEqualTo("apple");
+        assertThat(out.peekLast()).isEqualTo("kiwi");
+        assertThat(out.removeFirst()).isEqualTo("apple");
+        assertThat(out.removeLast()).isEqualTo("kiwi");
+        assertThat(out.get(0)).isEqualTo(STRING_1);
+        assertThat(out.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void empty_deque_test() {
+        // given
+        out.clear();
+        // assertions
+        assertThat(out.peekFirst()).isNull();
+        assertThat(out.peekLast()).isNull();
+        assertThatThrownBy(out::removeFirst)
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(out::removeLast)
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void sort_wrapped_buffer_test() {
+        // given
+        out.addFirst("kiwi");
+        out.addFirst("apple");
+        // invoking
+        out.quickSort();
+        // assertions
+        assertThat(out.toArray()).containsExactly("apple", STRING_1, STRING_2, "kiwi", STRING_3);
+        assertThat(out).containsExactly("apple", STRING_1, STRING_2, "kiwi", STRING_3);
+    }
+
+    @Test
+    public void stableSort_wrapped_buffer_test() {
+        // given
+        out.addFirst("kiwi");
+        out.addFirst("fig");
+        // invoking
+        out.stableSort(Comparator.comparingInt(String::length));
+        // assertions
+        assertThat(out.toArray()).containsExactly("fig", "kiwi", STRING_1, STRING_2, STRING_3);
+    }
+
+    @Test
+    public void selection_on_wrapped_buffer_test() {
+        // given
+        out.addFirst("kiwi");
+        out.addFirst("fig");
+        // invoking and assertions
+        assertThat(out.select(1, null)).isEqualTo(STRING_2);
+        assertThat(out.topK(2, Comparator.reverseOrder()).toArray()).containsExactly(STRING_3, "kiwi");
+        out.partialSort(2);
+        assertThat(out.get(0)).isEqualTo(STRING_1);
+        assertThat(out.get(1)).isEqualTo(STRING_2);
+    }
+
+    @Test
+    public void random_operations_match_array_list_test() {
+        // given
+        RingBufferSimpleArrayList<Integer> actual = new RingBufferSimpleArrayList<>(1);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+        // invoking
+        for (int step = 0; step < 20_000; step++) {
+            int index = expected.isEmpty() ? 0 : random.nextInt(expected.size());
+            switch (expected.isEmpty() ? random.nextInt(2) : random.nextInt(8)) {
+                case 0 -> {
+                    actual.addFirst(step);
+                    expected.add(0, step);
+                }
+                case 1 -> {
+                    actual.addLast(step);
+                    expected.add(step);
+                }
+                case 2 -> assertThat(actual.removeFirst()).isEqualTo(expected.remove(0));
+                case 3 -> assertThat(actual.removeLast()).isEqualTo(expected.remove(expected.size() - 1));
+                case 4 -> {
+                    actual.add(index, step);
+                    expected.add(index, step);
+                }
+                case 5 -> assertThat(actual.remove(index)).isEqualTo(expected.remove(index));
+                case 6 -> assertThat(actual.set(index, -step)).isEqualTo(expected.set(index, -step));
+                default -> assertThat(actual.get(index)).isEqualTo(expected.get(index));
+            }
+        }
+        // assertions
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+    }
+}
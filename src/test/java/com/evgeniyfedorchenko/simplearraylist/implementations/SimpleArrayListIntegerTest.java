@@ -1,13 +1,23 @@
 package com.evgeniyfedorchenko.simplearraylist.implementations;
 
+import com.evgeniyfedorchenko.simplearraylist.interfaces.GrowthPolicy;
 import com.evgeniyfedorchenko.simplearraylist.interfaces.SimpleList;
+import com.evgeniyfedorchenko.simplearraylist.sorting.RadixSort;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 
 import static com.evgeniyfedorchenko.simplearraylist.implementations.Constants.*;
@@ -51,6 +61,41 @@ class SimpleArrayListIntegerTest {
         assertThatCode(() -> out.add(INTEGER_1)).doesNotThrowAnyException();
     }
 
+    @Test
+    public void add_without_index_to_zero_capacity_list_test() {
+        // given
+        SimpleList<Integer> actual = new SimpleArrayList<>(0);
+        // invoking
+        IntStream.range(0, 100).forEach(actual::add);
+        // assertions
+        assertThat(actual.size()).isEqualTo(100);
+        assertThat(actual.get(0)).isEqualTo(0);
+        assertThat(actual.get(99)).isEqualTo(99);
+    }
+
+    @Test
+    public void add_without_index_with_custom_growth_policy_test() {
+        // given
+        SimpleArrayList<Integer> actual = new SimpleArrayList<>(1, GrowthPolicy.of(1.0F, 4, 4));
+        // invoking
+        IntStream.range(0, 10).forEach(actual::add);
+        // assertions
+        assertThat(actual.toArray()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void ensureCapacity_and_trimToSize_test() {
+        // given
+        SimpleArrayList<Integer> actual = new SimpleArrayList<>(0);
+        // invoking
+        actual.ensureCapacity(1_000);
+        IntStream.range(0, 3).forEach(actual::add);
+        actual.trimToSize();
+        actual.add(INTEGER_3);
+        // assertions
+        assertThat(actual.toArray()).containsExactly(0, 1, 2, INTEGER_3);
+    }
+
     @Test
     public void npe_test_in_add_without_index() {
         assertThatThrownBy(() -> out.add(null))
@@ -71,6 +116,17 @@ class SimpleArrayListIntegerTest {
 
     }
 
+    @Test
+    public void add_with_index_shifts_tail_test() {
+        // given
+        SimpleList<Integer> actual = new SimpleArrayList<>(List.of(0, 1, 2, 3));
+        // invoking
+        actual.add(0, INTEGER_3);
+        actual.add(2, 15);
+        // assertions
+        assertThat(actual.toArray()).containsExactly(INTEGER_3, 0, 15, 1, 2, 3);
+    }
+
     @Test
     public void add_with_index_recursive_call_test() {
         IntStream.range(0, 3).forEach(i -> out.add(INTEGER_1));
@@ -151,6 +207,17 @@ class SimpleArrayListIntegerTest {
         assertThat(out.size()).isEqualTo(sizeBeforeRemoving - 1);
     }
 
+    @Test
+    public void remove_on_index_from_full_array_test() {
+        // given
+        SimpleList<Integer> actual = new SimpleArrayList<>(List.of(0, 1, 2, 3));
+        // invoking
+        actual.remove(3);
+        actual.remove(0);
+        // assertions
+        assertThat(actual.toArray()).containsExactly(1, 2);
+    }
+
     @Test
     public void remove_on_index_negative_test() {
         // given
@@ -377,18 +444,506 @@ class SimpleArrayListIntegerTest {
     }
 
     @Test
-    public void binarySearch_test_and_quickSort_test_from_contains_method() {
+    public void contains_does_not_reorder_list_test() {
         // given
         out.add(INTEGER_2);
         out.add(INTEGER_3);
         out.add(15);
         out.add(0);
         out.add(-1);
-        SimpleList<Integer> expected = new SimpleArrayList<>(
-                List.of(-1, 0, 1, 1, 1, 1, 1, 1, 1, 2, 3, 15));
+        Object[] before = out.toArray();
         // invoking and assertions
         assertThat(out.contains(-1)).isTrue();
+        assertThat(out.contains(100)).isFalse();
+        assertThat(out.toArray()).isEqualTo(before);
+    }
+
+    @Test
+    public void binarySearch_test_after_quickSort() {
+        // given
+        out.add(INTEGER_2);
+        out.add(INTEGER_3);
+        out.add(15);
+        out.add(0);
+        out.add(-1);
+        SimpleList<Integer> expected = new SimpleArrayList<>(
+                List.of(-1, 0, 1, 1, 1, 1, 1, 1, 1, 2, 3, 15));
+        // invoking
+        out.quickSort();
+        // assertions
         assertThat(out).isEqualTo(expected);
-        assertThat(out.equals(expected)).isTrue();
+        assertThat(out.contains(-1)).isTrue();
+        assertThat(out.contains(4)).isFalse();
+        assertThat(out.indexOf(INTEGER_1)).isEqualTo(2);
+        assertThat(out.lastIndexOf(INTEGER_1)).isEqualTo(8);
+        assertThat(out.indexOf(15)).isEqualTo(11);
+    }
+
+    @Test
+    public void lookups_after_mutating_sorted_list_test() {
+        // given
+        out.add(INTEGER_2);
+        out.quickSort();
+        // invoking
+        out.set(0, 10);
+        out.add(-5);
+        out.remove(INTEGER_2);
+        // assertions
+        assertThat(out.indexOf(10)).isZero();
+        assertThat(out.indexOf(-5)).isEqualTo(7);
+        assertThat(out.contains(INTEGER_2)).isFalse();
+    }
+
+    @Test
+    public void sort_with_comparator_test() {
+        // given
+        out.add(INTEGER_2);
+        out.add(15);
+        out.add(-1);
+        // invoking
+        out.sort(Comparator.reverseOrder());
+        // assertions
+        assertThat(out.toArray()).containsExactly(15, 2, 1, 1, 1, 1, 1, 1, 1, -1);
+    }
+
+    @Test
+    public void quickSort_compares_numbers_numerically_test() {
+        // given
+        out.add(100);
+        out.add(-20);
+        out.add(Integer.MAX_VALUE);
+        out.add(Integer.MIN_VALUE);
+        // invoking
+        out.quickSort();
+        // assertions
+        assertThat(out.toArray())
+                .containsExactly(Integer.MIN_VALUE, -20, 1, 1, 1, 1, 1, 1, 1, 100, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void quickSort_on_large_sorted_and_reversed_input_test() {
+        // given
+        SimpleList<Integer> ascending = new SimpleArrayList<>();
+        SimpleList<Integer> descending = new SimpleArrayList<>();
+        IntStream.range(0, 1_000_000).forEach(ascending::add);
+        IntStream.range(0, 1_000_000).map(i -> 999_999 - i).forEach(descending::add);
+        // invoking
+        ascending.quickSort();
+        descending.quickSort();
+        // assertions
+        assertThat(descending).isEqualTo(ascending);
+        assertThat(descending.get(0)).isZero();
+        assertThat(descending.get(999_999)).isEqualTo(999_999);
+    }
+
+    @Test
+    public void quickSort_on_random_input_with_duplicates_test() {
+        // given
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        SimpleList<Integer> actual = new SimpleArrayList<>();
+        IntStream.range(0, 10_000).map(i -> random.nextInt(100)).forEach(i -> {
+            expected.add(i);
+            actual.add(i);
+        });
+        expected.sort(null);
+        // invoking
+        actual.quickSort();
+        // assertions
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+    }
+
+    @Test
+    public void quickSort_above_radix_threshold_test() {
+        // given
+        Random random = new Random(9);
+        List<Integer> expected = new ArrayList<>();
+        SimpleList<Integer> actual = new SimpleArrayList<>();
+        IntStream.range(0, RadixSort.THRESHOLD * 4).map(i -> random.nextInt()).forEach(i -> {
+            expected.add(i);
+            actual.add(i);
+        });
+        expected.sort(null);
+        // invoking
+        actual.quickSort();
+        // assertions
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+        assertThat(actual.indexOf(expected.get(100))).isEqualTo(100);
+    }
+
+    @Test
+    public void radixSortByInt_is_stable_test() {
+        // given
+        SimpleArrayList<Integer> actual = new SimpleArrayList<>();
+        IntStream.of(25, 12, 7, 30, 2, 9).forEach(actual::add);
+        // invoking
+        actual.radixSortByInt(i -> i % 3);
+        // assertion
+        assertThat(actual.toArray()).containsExactly(12, 30, 9, 25, 7, 2);
+    }
+
+    @Test
+    public void radixSortByLong_test() {
+        // given
+        SimpleArrayList<Integer> actual = new SimpleArrayList<>();
+        IntStream.of(3, -1, Integer.MIN_VALUE, 0, Integer.MAX_VALUE).forEach(actual::add);
+        // invoking
+        actual.radixSortByLong(i -> -(long) i);
+        // assertions
+        assertThat(actual.toArray()).containsExactly(Integer.MAX_VALUE, 3, 0, -1, Integer.MIN_VALUE);
+        assertThat(actual.indexOf(0)).isEqualTo(2);
+    }
+
+    @Test
+    public void stableSort_on_nearly_sorted_input_test() {
+        // given
+        SimpleList<Integer> actual = new SimpleArrayList<>();
+        IntStream.range(0, 10_000).forEach(actual::add);
+        actual.set(10, 5_000);
+        actual.set(9_000, -1);
+        // invoking
+        actual.stableSort(null);
+        // assertions
+        assertThat(actual.get(0)).isEqualTo(-1);
+        assertThat(actual.get(9_999)).isEqualTo(9_999);
+        assertThat(actual.indexOf(5_000)).isEqualTo(5_000);
+        assertThat(actual.contains(10)).isFalse();
+    }
+
+    @Test
+    public void select_test() {
+        // given
+        IntStream.of(15, -1, 2, 3).forEach(out::add);
+        // invoking and assertions
+        assertThat(out.select(0, null)).isEqualTo(-1);
+        assertThat(out.select(8, null)).isEqualTo(2);
+        assertThat(out.select(0, Comparator.reverseOrder())).isEqualTo(15);
+        assertThat(out.size()).isEqualTo(11);
+        assertThat(out.indexOf(15)).isNotNegative();
+        assertThatThrownBy(() -> out.select(11, null))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void topK_does_not_change_list_test() {
+        // given
+        Random random = new Random(17);
+        List<Integer> expected = new ArrayList<>();
+        SimpleList<Integer> actual = new SimpleArrayList<>();
+        IntStream.range(0, 10_000).map(i -> random.nextInt(1_000)).forEach(i -> {
+            expected.add(i);
+            actual.add(i);
+        });
+        Object[] before = actual.toArray();
+        expected.sort(Comparator.reverseOrder());
+        // invoking
+        SimpleList<Integer> top = actual.topK(100, Comparator.reverseOrder());
+        // assertions
+        assertThat(top.toArray()).isEqualTo(expected.subList(0, 100).toArray());
+        assertThat(actual.toArray()).isEqualTo(before);
+        assertThat(actual.topK(20_000, null).size()).isEqualTo(10_000);
+    }
+
+    @Test
+    public void partialSort_test() {
+        // given
+        Random random = new Random(19);
+        List<Integer> expected = new ArrayList<>();
+        SimpleList<Integer> actual = new SimpleArrayList<>();
+        IntStream.range(0, 10_000).map(i -> random.nextInt()).forEach(i -> {
+            expected.add(i);
+            actual.add(i);
+        });
+        expected.sort(null);
+        // invoking
+        actual.partialSort(50);
+        // assertions
+        assertThat(Arrays.copyOf(actual.toArray(), 50)).isEqualTo(expected.subList(0, 50).toArray());
+        assertThat(actual.contains(expected.get(9_999))).isTrue();
+        assertThatThrownBy(() -> actual.partialSort(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void partialSort_of_sorted_list_keeps_iterators_valid_test() {
+        // given
+        SimpleList<Integer> actual = new SimpleArrayList<>();
+        actual.add(INTEGER_2);
+        actual.add(INTEGER_1);
+        actual.quickSort();
+        Iterator<Integer> iterator = actual.iterator();
+        iterator.next();
+        // invoking
+        actual.partialSort(1);
+        // assertions
+        assertThat(iterator.next()).isEqualTo(INTEGER_2);
+    }
+
+    @Test
+    public void parallelSort_test() {
+        // given
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+        SimpleList<Integer> actual = new SimpleArrayList<>();
+        IntStream.range(0, 200_000).map(i -> random.nextInt(50_000)).forEach(i -> {
+            expected.add(i);
+            actual.add(i);
+        });
+        expected.sort(null);
+        // invoking
+        actual.parallelSort(null);
+        // assertions
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+    }
+
+    @Test
+    public void parallelSort_with_comparator_and_custom_pool_test() {
+        // given
+        Random random = new Random(13);
+        List<Integer> expected = new ArrayList<>();
+        SimpleArrayList<Integer> actual = new SimpleArrayList<>();
+        IntStream.range(0, 10_007).map(i -> random.nextInt()).forEach(i -> {
+            expected.add(i);
+            actual.add(i);
+        });
+        expected.sort(Comparator.reverseOrder());
+        actual.setParallelSortThreshold(1);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        // invoking
+        try {
+            actual.parallelSort(Comparator.reverseOrder(), pool);
+        } finally {
+            pool.shutdown();
+        }
+        // assertions
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+    }
+
+    @Test
+    public void addAll_test() {
+        // given
+        SimpleList<Integer> other = new SimpleArrayList<>(List.of(INTEGER_2, INTEGER_3));
+        // invoking
+        out.addAll(List.of(4, 5));
+        out.addAll(other);
+        out.addAll(new Integer[]{6});
+        // assertions
+        assertThat(out.size()).isEqualTo(12);
+        assertThat(out.toArray()).endsWith(4, 5, INTEGER_2, INTEGER_3, 6);
+    }
+
+    @Test
+    public void addAll_with_null_does_not_change_list_test() {
+        // given
+        List<Integer> items = new ArrayList<>(List.of(4, 5));
+        items.add(null);
+        // invoking and assertions
+        assertThatThrownBy(() -> out.addAll(items))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(out.size()).isEqualTo(7);
+    }
+
+    @Test
+    public void removeIf_test() {
+        // given
+        IntStream.range(0, 10).forEach(out::add);
+        // invoking
+        boolean changed = out.removeIf(i -> i % 2 == 1);
+        // assertions
+        assertThat(changed).isTrue();
+        assertThat(out.toArray()).containsExactly(0, 2, 4, 6, 8);
+        assertThat(out.removeIf(i -> i > 100)).isFalse();
+    }
+
+    @Test
+    public void removeAll_and_retainAll_test() {
+        // given
+        IntStream.range(0, 10).forEach(out::add);
+        // invoking
+        out.removeAll(List.of(INTEGER_1, 5));
+        out.retainAll(List.of(0, 2, 5, 9));
+        // assertions
+        assertThat(out.toArray()).containsExactly(0, 2, 9);
+    }
+
+    @Test
+    public void removeRange_test() {
+        // given
+        IntStream.range(0, 5).forEach(out::add);
+        // invoking
+        out.removeRange(2, 9);
+        // assertions
+        assertThat(out.toArray()).containsExactly(INTEGER_1, INTEGER_1, 2, 3, 4);
+        assertThatThrownBy(() -> out.removeRange(3, 6))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void empty_removeRange_keeps_iterators_valid_test() {
+        // given
+        Iterator<Integer> iterator = out.iterator();
+        Integer first = iterator.next();
+        // invoking
+        out.removeRange(1, 1);
+        // assertions
+        assertThat(first).isEqualTo(out.get(0));
+        assertThat(iterator.next()).isEqualTo(out.get(1));
+    }
+
+    @Test
+    public void spliterator_characteristics_test() {
+        // invoking
+        Spliterator<Integer> spliterator = out.spliterator();
+        // assertions
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.ORDERED | Spliterator.NONNULL)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(7);
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown()).isEqualTo(7);
+    }
+
+    @Test
+    public void stream_and_parallelStream_test() {
+        // given
+        SimpleList<Integer> actual = new SimpleArrayList<>();
+        IntStream.range(0, 100_000).forEach(actual::add);
+        // invoking and assertions
+        assertThat(actual.stream().mapToLong(Integer::longValue).sum()).isEqualTo(4_999_950_000L);
+        assertThat(actual.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(4_999_950_000L);
+        assertThat(actual.parallelStream().filter(i -> i % 2 == 0).count()).isEqualTo(50_000);
+        assertThat(out.stream().toList()).containsExactly(1, 1, 1, 1, 1, 1, 1);
+    }
+
+    @Test
+    public void iterator_visits_every_element_once_test() {
+        // given
+        SimpleList<Integer> actual = new SimpleArrayList<>(List.of(0, 1, 2, 3));
+        List<Integer> visited = new ArrayList<>();
+        // invoking
+        Iterator<Integer> iterator = actual.iterator();
+        while (iterator.hasNext()) {
+            visited.add(iterator.next());
+        }
+        // assertions
+        assertThat(visited).containsExactly(0, 1, 2, 3);
+        assertThatThrownBy(iterator::next)
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void iterator_is_fail_fast_test() {
+        // given
+        Iterator<Integer> iterator = out.iterator();
+        iterator.next();
+        // invoking
+        out.add(INTEGER_2);
+        // assertions
+        assertThatThrownBy(iterator::next)
+                .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    public void iterator_remove_test() {
+        // given
+        SimpleArrayList<Integer> actual = new SimpleArrayList<>();
+        IntStream.range(0, 10).forEach(actual::add);
+        // invoking
+        Iterator<Integer> iterator = actual.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 3 != 0) {
+                iterator.remove();
+            }
+        }
+        // assertions
+        assertThat(actual.size()).isEqualTo(4);
+        assertThat(actual.toArray()).containsExactly(0, 3, 6, 9);
+        assertThatThrownBy(() -> actual.iterator().remove())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void list_access_in_the_middle_of_iteration_with_removals_test() {
+        // given
+        SimpleArrayList<Integer> actual = new SimpleArrayList<>(List.of(0, 1, 2, 3, 4, 5));
+        ListIterator<Integer> iterator = actual.listIterator();
+        // invoking
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        iterator.next();
+        iterator.remove();
+        // assertions
+        assertThat(actual.size()).isEqualTo(4);
+        assertThat(actual.get(1)).isEqualTo(3);
+        assertThat(actual.toArray()).containsExactly(0, 3, 4, 5);
+        assertThat(iterator.next()).isEqualTo(3);
+        iterator.remove();
+        assertThat(actual.toArray()).containsExactly(0, 4, 5);
+    }
+
+    @Test
+    public void listIterator_set_add_and_previous_test() {
+        // given
+        SimpleArrayList<Integer> actual = new SimpleArrayList<>(List.of(0, 1, 2));
+        ListIterator<Integer> iterator = actual.listIterator(1);
+        // invoking
+        iterator.next();
+        iterator.set(10);
+        iterator.add(11);
+        iterator.previous();
+        iterator.remove();
+        iterator.previous();
+        // assertions
+        assertThat(iterator.nextIndex()).isEqualTo(1);
+        assertThat(actual.toArray()).containsExactly(0, 10, 2);
+    }
+
+    @Test
+    public void random_listIterator_operations_match_arrayList_test() {
+        // given
+        Random random = new Random(23);
+        for (int round = 0; round < 200; round++) {
+            SimpleArrayList<Integer> actual = new SimpleArrayList<>(0);
+            List<Integer> expected = new ArrayList<>();
+            IntStream.range(0, random.nextInt(40)).forEach(i -> {
+                actual.add(i);
+                expected.add(i);
+            });
+            int start = random.nextInt(expected.size() + 1);
+            ListIterator<Integer> actualIterator = actual.listIterator(start);
+            ListIterator<Integer> expectedIterator = expected.listIterator(start);
+            boolean canModify = false;
+            // invoking
+            for (int step = 0; step < 60; step++) {
+                int operation = random.nextInt(6);
+                if (operation == 0 && expectedIterator.hasNext()) {
+                    assertThat(actualIterator.next()).isEqualTo(expectedIterator.next());
+                    canModify = true;
+                } else if (operation == 1 && expectedIterator.hasPrevious()) {
+                    assertThat(actualIterator.previous()).isEqualTo(expectedIterator.previous());
+                    canModify = true;
+                } else if (operation == 2 && canModify) {
+                    actualIterator.remove();
+                    expectedIterator.remove();
+                    canModify = false;
+                } else if (operation == 3 && canModify) {
+                    actualIterator.set(-step);
+                    expectedIterator.set(-step);
+                } else if (operation == 4) {
+                    actualIterator.add(100 + step);
+                    expectedIterator.add(100 + step);
+                    canModify = false;
+                } else if (operation == 5 && !expected.isEmpty()) {
+                    int index = random.nextInt(expected.size());
+                    assertThat(actual.get(index)).isEqualTo(expected.get(index));
+                }
+                // assertions
+                assertThat(actualIterator.nextIndex()).isEqualTo(expectedIterator.nextIndex());
+                assertThat(actualIterator.hasNext()).isEqualTo(expectedIterator.hasNext());
+            }
+            assertThat(actual.size()).isEqualTo(expected.size());
+            assertThat(actual.toArray()).isEqualTo(expected.toArray());
+        }
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.stream.IntStream;
@@ -384,7 +385,7 @@ class SimpleArrayListStringTest {
     }
 
     @Test
-    public void binarySearch_test_and_quickSort_test_from_contains_method() {
+    public void contains_does_not_reorder_list_and_binarySearch_after_quickSort_test() {
         // given
         out.add(STRING_2);
         out.add(STRING_3);
@@ -393,9 +394,62 @@ class SimpleArrayListStringTest {
         out.add("orange");
         SimpleList<String> expected = new SimpleArrayList<>(
                 List.of("apple", "banana", "banana", "banana", "banana", "banana", "banana", "banana", "cherry", "orange", "strawberry", "watermelon"));
+        Object[] before = out.toArray();
         // invoking and assertions
         assertThat(out.contains("watermelon")).isTrue();
+        assertThat(out.toArray()).isEqualTo(before);
+        out.quickSort();
         assertThat(out).isEqualTo(expected);
         assertThat(out.equals(expected)).isTrue();
+        assertThat(out.contains("watermelon")).isTrue();
+        assertThat(out.contains("kiwi")).isFalse();
+        assertThat(out.indexOf(STRING_1)).isEqualTo(1);
+        assertThat(out.lastIndexOf(STRING_1)).isEqualTo(7);
+    }
+
+    @Test
+    public void sort_with_comparator_test() {
+        // given
+        out.add(STRING_3);
+        out.add("fig");
+        // invoking
+        out.sort(Comparator.comparingInt(String::length));
+        // assertions
+        assertThat(out.get(0)).isEqualTo("fig");
+        assertThat(out.get(8)).isEqualTo(STRING_3);
+    }
+
+    @Test
+    public void radixSortByString_is_stable_test() {
+        // given
+        SimpleArrayList<String> actual = new SimpleArrayList<>();
+        List.of("b2", "a1", "b1", "a2", "c1").forEach(actual::add);
+        // invoking
+        actual.radixSortByString(item -> item.substring(0, 1));
+        // assertion
+        assertThat(actual.toArray()).containsExactly("a1", "a2", "b2", "b1", "c1");
+    }
+
+    @Test
+    public void radixSortByString_falls_back_for_long_keys_test() {
+        // given
+        SimpleArrayList<String> actual = new SimpleArrayList<>();
+        List.of(STRING_3.repeat(2), STRING_1, STRING_3.repeat(2) + "!", STRING_2).forEach(actual::add);
+        // invoking
+        actual.radixSortByString(item -> item);
+        // assertion
+        assertThat(actual.toArray()).containsExactly(STRING_1, STRING_2, STRING_3.repeat(2), STRING_3.repeat(2) + "!");
+    }
+
+    @Test
+    public void stableSort_keeps_order_of_equal_elements_test() {
+        // given
+        out.clear();
+        List.of("fig", STRING_3, "kiwi", STRING_1, "lime", STRING_2, "pear").forEach(out::add);
+        // invoking
+        out.stableSort(null);
+        out.stableSort(Comparator.comparingInt(String::length));
+        // assertion
+        assertThat(out.toArray()).containsExactly("fig", "kiwi", "lime", "pear", STRING_1, STRING_2, STRING_3);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SimpleListEventsTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void grow_sort_and_shift_events_test() throws Exception {
+        // given
+        SimpleArrayList<Integer> out = new SimpleArrayList<>(2);
+        Path dump = directory.resolve("events.jfr");
+        // invoking
+        try (Recording recording = new Recording()) {
+            recording.enable("SimpleList.Grow").withThreshold(Duration.ZERO);
+            recording.enable("SimpleList.Sort").withThreshold(Duration.ZERO);
+            recording.enable("SimpleList.Shift").withThreshold(Duration.ZERO);
+            recording.start();
+            for (int i = 100; i > 0; i--) {
+                out.add(i);
+            }
+            out.add(10, 0);
+            out.remove(0);
+            out.quickSort();
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        // assertions
+        List<RecordedEvent> grows = events.stream()
+                .filter(event -> event.getEventType().getName().equals("SimpleList.Grow"))
+                .toList();
+        assertThat(grows).isNotEmpty();
+        assertThat(grows.get(0).getInt("oldCapacity")).isEqualTo(2);
+        assertThat(grows.get(0).getInt("newCapacity")).isEqualTo(3);
+        assertThat(events)
+                .filteredOn(event -> event.getEventType().getName().equals("SimpleList.Shift"))
+                .extracting(event -> event.getInt("movedElements"))
+                .containsExactly(90, 100);
+        RecordedEvent sort = events.stream()
+                .filter(event -> event.getEventType().getName().equals("SimpleList.Sort"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(sort.getInt("size")).isEqualTo(100);
+        assertThat(sort.getLong("comparisons")).isPositive();
+        assertThat(sort.getBoolean("parallel")).isFalse();
+        assertThat(out.get(0)).isZero();
+    }
+}
@@ -0,0 +1,112 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import com.evgeniyfedorchenko.simplearraylist.io.ElementCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static com.evgeniyfedorchenko.simplearraylist.implementations.Constants.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SimpleListFormatTest {
+
+    @Test
+    public void strings_round_trip_test() throws IOException {
+        // given
+        SimpleArrayList<String> expected = new SimpleArrayList<>();
+        expected.add(STRING_1);
+        expected.add("");
+        expected.add("ёжик 🦔");
+        expected.add("x".repeat(200_000));
+        expected.add(STRING_3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // invoking
+        expected.writeTo(out, ElementCodec.STRING);
+        SimpleArrayList<String> actual = SimpleArrayList.readFrom(new ByteArrayInputStream(out.toByteArray()), ElementCodec.STRING);
+        // assertions
+        assertThat(actual).isEqualTo(expected);
+        actual.add(STRING_2);
+        assertThat(actual.size()).isEqualTo(6);
+    }
+
+    @Test
+    public void lone_surrogate_keeps_stream_in_sync_test() throws IOException {
+        // given
+        SimpleArrayList<String> source = new SimpleArrayList<>();
+        source.add("a\uD800b");
+        source.add("\uDC00");
+        source.add(STRING_1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // invoking
+        source.writeTo(out, ElementCodec.STRING);
+        SimpleArrayList<String> actual = SimpleArrayList.readFrom(new ByteArrayInputStream(out.toByteArray()), ElementCodec.STRING);
+        // assertions
+        assertThat(ElementCodec.STRING.encodedSize("a\uD800b")).isEqualTo("a\uD800b".getBytes(StandardCharsets.UTF_8).length);
+        assertThat(actual.toArray()).containsExactly("a?b", "?", STRING_1);
+    }
+
+    @Test
+    public void numbers_round_trip_through_channel_test() throws IOException {
+        // given
+        Path file = Files.createTempFile("simple-list", ".bin");
+        SimpleArrayList<Long> expected = new SimpleArrayList<>();
+        for (long i = 0; i < 100_000; i++) {
+            expected.add(i * i - 7);
+        }
+        // invoking
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            expected.writeTo(channel, ElementCodec.LONG);
+        }
+        SimpleArrayList<Long> actual;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            actual = SimpleArrayList.readFrom(channel, ElementCodec.LONG);
+        } finally {
+            Files.delete(file);
+        }
+        // assertions
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void read_negative_test() throws IOException {
+        // given
+        SimpleArrayList<Integer> source = new SimpleArrayList<>();
+        source.add(INTEGER_1);
+        source.add(INTEGER_2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        source.writeTo(out, ElementCodec.INTEGER);
+        byte[] bytes = out.toByteArray();
+        // assertions
+        assertThatThrownBy(() -> SimpleArrayList.readFrom(new ByteArrayInputStream(bytes), ElementCodec.LONG))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> SimpleArrayList.readFrom(
+                new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)), ElementCodec.INTEGER))
+                .isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> SimpleArrayList.readFrom(new ByteArrayInputStream(new byte[12]), ElementCodec.INTEGER))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void huge_count_and_length_in_header_fail_on_data_test() {
+        // given
+        ByteBuffer hugeCount = ByteBuffer.allocate(16)
+                .putInt(0x534C4246).putShort((short) 1).putShort((short) 1).putInt(Integer.MAX_VALUE - 8).putInt(INTEGER_1);
+        ByteBuffer hugeLength = ByteBuffer.allocate(20)
+                .putInt(0x534C4246).putShort((short) 1).putShort((short) 3).putInt(1).putInt(Integer.MAX_VALUE).putInt(0);
+        // assertions
+        assertThatThrownBy(() -> SimpleArrayList.readFrom(new ByteArrayInputStream(hugeCount.array()), ElementCodec.INTEGER))
+                .isInstanceOf(EOFException.class);
+        assertThatThrownBy(() -> SimpleArrayList.readFrom(new ByteArrayInputStream(hugeLength.array()), ElementCodec.STRING))
+                .isInstanceOf(EOFException.class);
+    }
+}
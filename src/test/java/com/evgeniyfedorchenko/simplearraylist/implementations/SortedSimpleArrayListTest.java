@@ -0,0 +1,174 @@
+package com.evgeniyfedorchenko.simplearraylist.implementations;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static com.evgeniyfedorchenko.simplearraylist.implementations.Constants.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SortedSimpleArrayListTest {
+
+    private final SortedSimpleArrayList<String> out = new SortedSimpleArrayList<>();
+
+    @BeforeEach
+    public void beforeEach() {
+        out.add(STRING_3);
+        out.add(STRING_1);
+        out.add(STRING_2);
+    }
+
+    @Test
+    public void add_keeps_order_test() {
+        // invoking
+        out.add("apple");
+        out.add("kiwi");
+        out.add(STRING_1);
+        // assertions
+        assertThat(out.toArray()).containsExactly("apple", STRING_1, STRING_1, STRING_2, "kiwi", STRING_3);
+        assertThat(out.indexOf(STRING_1)).isEqualTo(1);
+        assertThat(out.lastIndexOf(STRING_1)).isEqualTo(2);
+        assertThat(out.contains("kiwi")).isTrue();
+        assertThat(out.contains("fig")).isFalse();
+    }
+
+    @Test
+    public void equal_elements_keep_insertion_order_test() {
+        // given
+        SortedSimpleArrayList<String> actual = new SortedSimpleArrayList<>(Comparator.comparingInt(String::length));
+        // invoking
+        List.of("pear", "fig", "kiwi", "lime", "yew").forEach(actual::add);
+        actual.addAll(new String[]{"plum", "oak"});
+        // assertion
+        assertThat(actual.toArray()).containsExactly("fig", "yew", "oak", "pear", "kiwi", "lime", "plum");
+    }
+
+    @Test
+    public void indexOf_skips_elements_equal_only_by_comparator_test() {
+        // given
+        SortedSimpleArrayList<BigDecimal> actual = new SortedSimpleArrayList<>();
+        actual.add(new BigDecimal("1.0"));
+        actual.add(new BigDecimal("1.00"));
+        actual.add(new BigDecimal("2"));
+        // invoking and assertions
+        assertThat(actual.indexOf(new BigDecimal("1.00"))).isEqualTo(1);
+        assertThat(actual.lastIndexOf(new BigDecimal("1.0"))).isZero();
+        assertThat(actual.contains(new BigDecimal("1"))).isFalse();
+    }
+
+    @Test
+    public void remove_test() {
+        // invoking
+        String removed = out.remove(STRING_2);
+        // assertions
+        assertThat(removed).isEqualTo(STRING_2);
+        assertThat(out.toArray()).containsExactly(STRING_1, STRING_3);
+        assertThatThrownBy(() -> out.remove(STRING_2))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void floor_and_ceiling_test() {
+        // invoking and assertions
+        assertThat(out.floor("coconut")).isEqualTo(STRING_2);
+        assertThat(out.floor(STRING_2)).isEqualTo(STRING_2);
+        assertThat(out.floor("apple")).isNull();
+        assertThat(out.ceiling("coconut")).isEqualTo(STRING_3);
+        assertThat(out.ceiling(STRING_1)).isEqualTo(STRING_1);
+        assertThat(out.ceiling("watermelon")).isNull();
+    }
+
+    @Test
+    public void range_test() {
+        // given
+        out.add("apple");
+        out.add("kiwi");
+        // invoking
+        SortedSimpleArrayList<String> actual = out.range(STRING_1, "kiwi");
+        // assertions
+        assertThat(actual.toArray()).containsExactly(STRING_1, STRING_2);
+        assertThat(out.range("x", "z").isEmpty()).isTrue();
+        assertThatThrownBy(() -> out.range("z", "x"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void addAll_merges_with_existing_elements_test() {
+        // given
+        Random random = new Random(41);
+        SortedSimpleArrayList<Integer> actual = new SortedSimpleArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int batch = 0; batch < 20; batch++) {
+            Integer[] items = random.ints(random.nextInt(500), 0, 1_000).boxed().toArray(Integer[]::new);
+            // invoking
+            actual.addAll(items);
+            expected.addAll(List.of(items));
+        }
+        expected.sort(null);
+        // assertion
+        assertThat(actual.toArray()).isEqualTo(expected.toArray());
+    }
+
+    @Test
+    public void positional_changes_are_not_supported_test() {
+        assertThatThrownBy(() -> out.add(0, STRING_1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> out.set(0, STRING_1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> out.sort(Comparator.reverseOrder()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void sort_by_own_order_and_selection_test() {
+        // invoking
+        out.quickSort();
+        out.sort(Comparator.naturalOrder());
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_1, STRING_2, STRING_3);
+        assertThat(out.select(1, null)).isEqualTo(STRING_2);
+        assertThat(out.select(0, Comparator.reverseOrder())).isEqualTo(STRING_3);
+        assertThat(out.topK(2, null).toArray()).containsExactly(STRING_1, STRING_2);
+        assertThat(out.toArray()).containsExactly(STRING_1, STRING_2, STRING_3);
+    }
+
+    @Test
+    public void removeIf_and_removeRange_keep_order_test() {
+        // given
+        out.add("apple");
+        out.add("kiwi");
+        // invoking
+        out.removeIf(item -> item.startsWith("k"));
+        out.removeRange(0, 1);
+        // assertions
+        assertThat(out.toArray()).containsExactly(STRING_1, STRING_2, STRING_3);
+        assertThat(out.indexOf(STRING_3)).isEqualTo(2);
+    }
+
+    @Test
+    public void removeIf_with_throwing_filter_leaves_list_intact_test() {
+        // given
+        out.add("apple");
+        // invoking
+        assertThatThrownBy(() -> out.removeIf(item -> {
+            if (item.equals(STRING_3)) {
+                throw new IllegalStateException();
+            }
+            return item.equals("apple");
+        })).isInstanceOf(IllegalStateException.class);
+        // assertions
+        assertThat(out.toArray()).containsExactly("apple", STRING_1, STRING_2, STRING_3);
+    }
+
+    @Test
+    public void add_null_test() {
+        assertThatThrownBy(() -> out.add(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
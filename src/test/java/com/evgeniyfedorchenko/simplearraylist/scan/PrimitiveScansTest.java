@@ -0,0 +1,68 @@
+package com.evgeniyfedorchenko.simplearraylist.scan;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PrimitiveScansTest {
+
+    private final PrimitiveScans scalar = PrimitiveScans.scalar();
+    /* Без профиля vector векторной реализации нет, и сравнения с ней пропускаются */
+    private final PrimitiveScans vectorized = PrimitiveScans.vectorized().orElse(null);
+
+    @Test
+    public void best_picks_vectorized_or_falls_back_to_scalar_test() {
+        assertThat(PrimitiveScans.best()).isSameAs(vectorized != null ? vectorized : scalar);
+    }
+
+    @Test
+    public void int_scans_match_scalar_test() {
+        assumeTrue(vectorized != null);
+        // given
+        Random random = new Random(5);
+        for (int length = 0; length < 200; length++) {
+            int[] array = random.ints(length, -8, 8).toArray();
+            int value = random.nextInt(16) - 8;
+            int from = length == 0 ? 0 : random.nextInt(length);
+            // assertions
+            assertThat(vectorized.indexOf(array, from, length, value)).isEqualTo(scalar.indexOf(array, from, length, value));
+            assertThat(vectorized.lastIndexOf(array, length, value)).isEqualTo(scalar.lastIndexOf(array, length, value));
+            assertThat(vectorized.count(array, length, value)).isEqualTo(scalar.count(array, length, value));
+            assertThat(vectorized.min(array, length)).isEqualTo(scalar.min(array, length));
+            assertThat(vectorized.max(array, length)).isEqualTo(scalar.max(array, length));
+            assertThat(vectorized.sum(array, length)).isEqualTo(scalar.sum(array, length));
+        }
+    }
+
+    @Test
+    public void long_scans_match_scalar_test() {
+        assumeTrue(vectorized != null);
+        // given
+        Random random = new Random(6);
+        for (int length = 0; length < 200; length++) {
+            long[] array = random.longs(length, -8, 8).toArray();
+            long value = random.nextInt(16) - 8;
+            int from = length == 0 ? 0 : random.nextInt(length);
+            // assertions
+            assertThat(vectorized.indexOf(array, from, length, value)).isEqualTo(scalar.indexOf(array, from, length, value));
+            assertThat(vectorized.lastIndexOf(array, length, value)).isEqualTo(scalar.lastIndexOf(array, length, value));
+            assertThat(vectorized.count(array, length, value)).isEqualTo(scalar.count(array, length, value));
+            assertThat(vectorized.min(array, length)).isEqualTo(scalar.min(array, length));
+            assertThat(vectorized.max(array, length)).isEqualTo(scalar.max(array, length));
+            assertThat(vectorized.sum(array, length)).isEqualTo(scalar.sum(array, length));
+        }
+    }
+
+    @Test
+    public void int_sum_does_not_overflow_test() {
+        // given
+        int[] array = new int[1_000];
+        Arrays.fill(array, Integer.MAX_VALUE);
+        // assertions
+        assertThat(PrimitiveScans.best().sum(array, array.length)).isEqualTo(1_000L * Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,90 @@
+package com.evgeniyfedorchenko.simplearraylist.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MergeSortTest {
+
+    private final MergeSort.Buffer buffer = new MergeSort.Buffer();
+    private final Comparator<Object> byKey = Comparator.comparingInt(pair -> ((int[]) pair)[0]);
+
+    @Test
+    public void sort_is_stable_on_different_inputs_test() {
+        // given
+        Random random = new Random(21);
+        IntUnaryOperator[] shapes = {
+                i -> random.nextInt(),
+                i -> random.nextInt(8),
+                i -> i,
+                i -> -i,
+                i -> i / 100 % 2 == 0 ? i : -i,
+                i -> i + (random.nextInt(20) == 0 ? random.nextInt(1_000) : 0)
+        };
+        for (IntUnaryOperator shape : shapes) {
+            for (int length : new int[]{0, 1, 2, 31, 32, 33, 100, 1_000, 20_000}) {
+                Object[] actual = new Object[length];
+                for (int i = 0; i < length; i++) {
+                    actual[i] = new int[]{shape.applyAsInt(i), i};
+                }
+                Object[] expected = actual.clone();
+                // invoking
+                MergeSort.sort(actual, 0, length, byKey, buffer);
+                Arrays.sort(expected, byKey);
+                // assertion
+                assertThat(actual).containsExactly(expected);
+            }
+        }
+    }
+
+    @Test
+    public void sort_subrange_with_natural_order_test() {
+        // given
+        Random random = new Random(22);
+        Object[] actual = random.ints(5_000, 0, 500).boxed().toArray();
+        Object[] expected = actual.clone();
+        // invoking
+        MergeSort.sort(actual, 100, 4_000, null, buffer);
+        Arrays.sort(expected, 100, 4_000);
+        // assertion
+        assertThat(actual).containsExactly(expected);
+    }
+
+    @Test
+    public void sort_of_ordered_input_is_linear_test() {
+        // given
+        Object[] ascending = IntStream.range(0, 100_000).map(i -> i * 3 - 150_000).boxed().toArray();
+        Object[] descending = ascending.clone();
+        for (int i = 0; i < descending.length / 2; i++) {
+            Object item = descending[i];
+            descending[i] = descending[descending.length - 1 - i];
+            descending[descending.length - 1 - i] = item;
+        }
+        AtomicInteger comparisons = new AtomicInteger();
+        Comparator<Integer> counting = (first, second) -> {
+            comparisons.incrementAndGet();
+            return first.compareTo(second);
+        };
+        // invoking
+        MergeSort.sort(ascending, 0, ascending.length, counting, buffer);
+        int ascendingComparisons = comparisons.getAndSet(0);
+        MergeSort.sort(descending, 0, descending.length, counting, buffer);
+        // assertions
+        assertThat(ascendingComparisons).isEqualTo(ascending.length - 1);
+        assertThat(comparisons.get()).isEqualTo(descending.length - 1);
+        assertThat(descending).containsExactly(ascending);
+    }
+
+    @Test
+    public void sort_negative_range_test() {
+        assertThatThrownBy(() -> MergeSort.sort(new Object[3], 2, 4, null, buffer))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package com.evgeniyfedorchenko.simplearraylist.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RadixSortTest {
+
+    private final RadixSort.Buffers buffers = new RadixSort.Buffers();
+
+    @Test
+    public void int_sort_matches_arrays_sort_test() {
+        // given
+        Random random = new Random(11);
+        for (int length = 0; length < 3_000; length += 1 + length / 4) {
+            int[] actual = length % 2 == 0
+                    ? random.ints(length).toArray()
+                    : random.ints(length, -300, 300).toArray();
+            int[] expected = actual.clone();
+            int from = length / 5;
+            // invoking
+            RadixSort.sort(actual, from, length, buffers);
+            Arrays.sort(expected, from, length);
+            // assertion
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void long_sort_matches_arrays_sort_test() {
+        // given
+        Random random = new Random(12);
+        for (int length = 0; length < 3_000; length += 1 + length / 4) {
+            long[] actual = length % 2 == 0
+                    ? random.longs(length).toArray()
+                    : random.longs(length, -300, 300).toArray();
+            if (length > 1) {
+                actual[0] = Long.MAX_VALUE;
+                actual[1] = Long.MIN_VALUE;
+            }
+            long[] expected = actual.clone();
+            // invoking
+            RadixSort.sort(actual, 0, length, buffers);
+            Arrays.sort(expected);
+            // assertion
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void sortByInt_is_stable_test() {
+        // given
+        Random random = new Random(13);
+        Object[] actual = new Object[2_000];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = new int[]{random.nextInt(50) - 25, i};
+        }
+        Object[] expected = actual.clone();
+        // invoking
+        RadixSort.<int[]>sortByInt(actual, 0, actual.length, pair -> pair[0], buffers);
+        Arrays.sort(expected, Comparator.comparingInt(pair -> ((int[]) pair)[0]));
+        // assertion
+        assertThat(actual).containsExactly(expected);
+    }
+
+    @Test
+    public void sortByLong_is_stable_test() {
+        // given
+        Random random = new Random(14);
+        Object[] actual = new Object[2_000];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = new long[]{random.nextLong() >> random.nextInt(64), i};
+        }
+        Object[] expected = actual.clone();
+        // invoking
+        RadixSort.<long[]>sortByLong(actual, 0, actual.length, pair -> pair[0], buffers);
+        Arrays.sort(expected, Comparator.comparingLong(pair -> ((long[]) pair)[0]));
+        // assertion
+        assertThat(actual).containsExactly(expected);
+    }
+
+    @Test
+    public void sortByString_matches_compareTo_test() {
+        // given
+        Random random = new Random(15);
+        Object[] actual = new Object[2_000];
+        for (int i = 0; i < actual.length; i++) {
+            char[] chars = new char[random.nextInt(RadixSort.MAX_STRING_KEY_LENGTH + 1)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) (random.nextBoolean() ? 'a' + random.nextInt(3) : random.nextInt(256));
+            }
+            actual[i] = new String(chars);
+        }
+        Object[] expected = actual.clone();
+        // invoking
+        boolean sorted = RadixSort.<String>sortByString(actual, 0, actual.length, Function.identity(), buffers);
+        Arrays.sort(expected);
+        // assertions
+        assertThat(sorted).isTrue();
+        assertThat(actual).containsExactly(expected);
+    }
+
+    @Test
+    public void sortByString_rejects_unsuitable_keys_test() {
+        // given
+        Object[] longKey = {"b", "a".repeat(RadixSort.MAX_STRING_KEY_LENGTH + 1)};
+        Object[] wideChar = {"b", "а"};
+        // invoking and assertions
+        assertThat(RadixSort.<String>sortByString(longKey, 0, 2, Function.identity(), buffers)).isFalse();
+        assertThat(RadixSort.<String>sortByString(wideChar, 0, 2, Function.identity(), buffers)).isFalse();
+        assertThat(longKey[0]).isEqualTo("b");
+        assertThat(wideChar[0]).isEqualTo("b");
+    }
+
+    @Test
+    public void sort_negative_range_test() {
+        assertThatThrownBy(() -> RadixSort.sort(new int[3], 2, 4, buffers))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.evgeniyfedorchenko.simplearraylist.sorting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SelectionTest {
+
+    @Test
+    public void select_matches_sorted_position_test() {
+        // given
+        Random random = new Random(31);
+        for (int length = 1; length < 2_000; length += 1 + length / 3) {
+            Object[] actual = random.ints(length, 0, length / 2 + 1).boxed().toArray();
+            Object[] expected = actual.clone();
+            Arrays.sort(expected);
+            int k = random.nextInt(length);
+            // invoking
+            Selection.select(actual, 0, length, k, null);
+            // assertions
+            assertThat(actual[k]).isEqualTo(expected[k]);
+            for (int i = 0; i < length; i++) {
+                int comparison = ((Integer) actual[i]).compareTo((Integer) actual[k]);
+                assertThat(i < k ? comparison <= 0 : comparison >= 0).isTrue();
+            }
+            assertThat(actual).containsExactlyInAnyOrder(expected);
+        }
+    }
+
+    @Test
+    public void partialSort_orders_only_first_k_positions_test() {
+        // given
+        Random random = new Random(32);
+        Integer[] actual = random.ints(10_000).boxed().toArray(Integer[]::new);
+        Integer[] expected = actual.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+        // invoking
+        Selection.partialSort(actual, 0, actual.length, 100, Comparator.reverseOrder());
+        // assertions
+        assertThat(Arrays.copyOf(actual, 100)).containsExactly(Arrays.copyOf(expected, 100));
+        assertThat(actual).containsExactlyInAnyOrder(expected);
+    }
+
+    @Test
+    public void partialSort_with_k_above_length_sorts_everything_test() {
+        // given
+        Object[] actual = {5, 3, 9, 1};
+        // invoking
+        Selection.partialSort(actual, 0, 4, 10, null);
+        // assertion
+        assertThat(actual).containsExactly(1, 3, 5, 9);
+    }
+
+    @Test
+    public void smallest_does_not_change_source_test() {
+        // given
+        Random random = new Random(33);
+        Object[] source = random.ints(10_000, 0, 1_000).boxed().toArray();
+        Object[] before = source.clone();
+        Object[] expected = source.clone();
+        Arrays.sort(expected);
+        // invoking
+        Object[] actual = Selection.smallest(source, 0, source.length, 50, null);
+        // assertions
+        assertThat(actual).containsExactly(Arrays.copyOf(expected, 50));
+        assertThat(source).containsExactly(before);
+        assertThat(Selection.smallest(source, 0, 3, 50, null)).hasSize(3);
+        assertThat(Selection.smallest(source, 0, source.length, 0, null)).isEmpty();
+    }
+
+    @Test
+    public void select_negative_index_test() {
+        assertThatThrownBy(() -> Selection.select(new Object[]{1, 2}, 0, 2, 2, null))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
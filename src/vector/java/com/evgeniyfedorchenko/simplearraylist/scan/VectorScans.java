@@ -0,0 +1,182 @@
+package com.evgeniyfedorchenko.simplearraylist.scan;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/* Основной цикл идет целыми векторами до loopBound, остаток добирается скалярно */
+final class VectorScans implements PrimitiveScans {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    VectorScans() {
+    }
+
+    @Override
+    public int indexOf(int[] array, int from, int to, int value) {
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            VectorMask<Integer> matches = IntVector.fromArray(INTS, array, i).eq(value);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+        return ScalarScans.INSTANCE.indexOf(array, i, to, value);
+    }
+
+    @Override
+    public int lastIndexOf(int[] array, int to, int value) {
+        int bound = INTS.loopBound(to);
+        for (int i = to - 1; i >= bound; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        for (int i = bound - INTS.length(); i >= 0; i -= INTS.length()) {
+            VectorMask<Integer> matches = IntVector.fromArray(INTS, array, i).eq(value);
+            if (matches.anyTrue()) {
+                return i + matches.lastTrue();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(int[] array, int to, int value) {
+        int count = 0;
+        int i = 0;
+        for (int bound = INTS.loopBound(to); i < bound; i += INTS.length()) {
+            count += IntVector.fromArray(INTS, array, i).eq(value).trueCount();
+        }
+        for (; i < to; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int min(int[] array, int to) {
+        IntVector min = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(to); i < bound; i += INTS.length()) {
+            min = min.min(IntVector.fromArray(INTS, array, i));
+        }
+        int result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public int max(int[] array, int to) {
+        IntVector max = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = 0;
+        for (int bound = INTS.loopBound(to); i < bound; i += INTS.length()) {
+            max = max.max(IntVector.fromArray(INTS, array, i));
+        }
+        int result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    /* Расширение int до long в векторе (convertShape на две половины) оказалось медленнее скалярного цикла,
+       который C2 и так векторизует сам, поэтому сумма int считается скалярно */
+    @Override
+    public long sum(int[] array, int to) {
+        return ScalarScans.INSTANCE.sum(array, to);
+    }
+
+    @Override
+    public int indexOf(long[] array, int from, int to, long value) {
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            VectorMask<Long> matches = LongVector.fromArray(LONGS, array, i).eq(value);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+        return ScalarScans.INSTANCE.indexOf(array, i, to, value);
+    }
+
+    @Override
+    public int lastIndexOf(long[] array, int to, long value) {
+        int bound = LONGS.loopBound(to);
+        for (int i = to - 1; i >= bound; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        for (int i = bound - LONGS.length(); i >= 0; i -= LONGS.length()) {
+            VectorMask<Long> matches = LongVector.fromArray(LONGS, array, i).eq(value);
+            if (matches.anyTrue()) {
+                return i + matches.lastTrue();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int count(long[] array, int to, long value) {
+        int count = 0;
+        int i = 0;
+        for (int bound = LONGS.loopBound(to); i < bound; i += LONGS.length()) {
+            count += LongVector.fromArray(LONGS, array, i).eq(value).trueCount();
+        }
+        for (; i < to; i++) {
+            if (array[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long min(long[] array, int to) {
+        LongVector min = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = 0;
+        for (int bound = LONGS.loopBound(to); i < bound; i += LONGS.length()) {
+            min = min.min(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            result = Math.min(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public long max(long[] array, int to) {
+        LongVector max = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = 0;
+        for (int bound = LONGS.loopBound(to); i < bound; i += LONGS.length()) {
+            max = max.max(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            result = Math.max(result, array[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public long sum(long[] array, int to) {
+        LongVector sum = LongVector.zero(LONGS);
+        int i = 0;
+        for (int bound = LONGS.loopBound(to); i < bound; i += LONGS.length()) {
+            sum = sum.add(LongVector.fromArray(LONGS, array, i));
+        }
+        long result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            result += array[i];
+        }
+        return result;
+    }
+}